@@ -0,0 +1,154 @@
+package justfatlard.fence_posts;
+
+import net.fabricmc.fabric.api.gametest.v1.GameTest;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.enums.SlabType;
+import net.minecraft.state.property.Properties;
+import net.minecraft.test.TestContext;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Server tick cost of large post arrays, run headless with ./gradlew runGameTest.
+ * Each scenario builds a walled 48x16x48 basin (the empty basin structure) with a checkerboard of
+ * columns, about 15,000 blocks, toggles a cap layer above them every tick to drive neighbor updates,
+ * and periodically drains the gaps between columns so water from waterlogged posts keeps flowing.
+ * The columns are first stone, as a dry baseline, then posts. Both are sampled after a warmup, and the
+ * scenario fails if the posts add more than the budget to the mean MSPT (-Dfence-posts.gametest.msptBudget,
+ * default 5). Each scenario has its own test environment so they run in separate batches and the samples
+ * only cover one scenario.
+ */
+public class PostTickCostTest {
+	private static final double MSPT_BUDGET = Double.parseDouble(System.getProperty("fence-posts.gametest.msptBudget", "5"));
+	private static final int WARMUP_TICKS = 20;
+	private static final int SAMPLE_TICKS = 100;
+	private static final int PHASE_TICKS = WARMUP_TICKS + SAMPLE_TICKS + 1;
+	private static final int MAX_TICKS = 2 * PHASE_TICKS + 20;
+	private static final int DRAIN_INTERVAL = 20;
+
+	// Basin layout: stone floor and rim, columns on a checkerboard inside, cap layer on top
+	private static final String STRUCTURE = "fence-posts-gametest:basin";
+	private static final int SIZE = 48;
+	private static final int POST_BOTTOM = 1;
+	private static final int POST_TOP = 14;
+	private static final int CAP = 15;
+
+	@GameTest(environment = "fence-posts-gametest:fence_posts", structure = STRUCTURE, maxTicks = MAX_TICKS)
+	public void fencePosts(TestContext context) {
+		BlockState post = Main.getFencePosts().get(0).getDefaultState();
+		run(context, "fence_posts", y -> post);
+	}
+
+	@GameTest(environment = "fence-posts-gametest:fence_posts_waterlogged", structure = STRUCTURE, maxTicks = MAX_TICKS)
+	public void fencePostsWaterlogged(TestContext context) {
+		BlockState post = Main.getFencePosts().get(0).getDefaultState().with(Properties.WATERLOGGED, true);
+		run(context, "fence_posts_waterlogged", y -> post);
+	}
+
+	@GameTest(environment = "fence-posts-gametest:wall_posts", structure = STRUCTURE, maxTicks = MAX_TICKS)
+	public void wallPosts(TestContext context) {
+		BlockState post = Main.getWallPosts().get(0).getDefaultState();
+		run(context, "wall_posts", y -> post);
+	}
+
+	@GameTest(environment = "fence-posts-gametest:wall_posts_waterlogged", structure = STRUCTURE, maxTicks = MAX_TICKS)
+	public void wallPostsWaterlogged(TestContext context) {
+		BlockState post = Main.getWallPosts().get(0).getDefaultState().with(Properties.WATERLOGGED, true);
+		run(context, "wall_posts_waterlogged", y -> post);
+	}
+
+	@GameTest(environment = "fence-posts-gametest:stacked_slabs", structure = STRUCTURE, maxTicks = MAX_TICKS)
+	public void stackedSlabs(TestContext context) {
+		Block fenceSlab = Main.getFencePostSlabs().get(0);
+		Block wallSlab = Main.getWallPostSlabs().get(0);
+		run(context, "stacked_slabs", y -> slab(y % 2 == 0 ? fenceSlab : wallSlab, y, false));
+	}
+
+	@GameTest(environment = "fence-posts-gametest:stacked_slabs_waterlogged", structure = STRUCTURE, maxTicks = MAX_TICKS)
+	public void stackedSlabsWaterlogged(TestContext context) {
+		Block fenceSlab = Main.getFencePostSlabs().get(0);
+		Block wallSlab = Main.getWallPostSlabs().get(0);
+		run(context, "stacked_slabs_waterlogged", y -> slab(y % 2 == 0 ? fenceSlab : wallSlab, y, true));
+	}
+
+	// Cycle bottom, top and double slabs up the column; double slabs can't hold water
+	private static BlockState slab(Block block, int y, boolean waterlogged) {
+		SlabType type = SlabType.values()[y % 3];
+		return block.getDefaultState()
+			.with(Properties.SLAB_TYPE, type)
+			.with(Properties.WATERLOGGED, waterlogged && type != SlabType.DOUBLE);
+	}
+
+	private static void run(TestContext context, String scenario, ColumnState column) {
+		BlockState stone = Blocks.STONE.getDefaultState();
+		build(context, y -> stone);
+
+		TickRecorder[] recorder = new TickRecorder[1];
+		TickRecorder.Result[] baseline = new TickRecorder.Result[1];
+		context.runAtEveryTick(() -> drive(context, context.getTick()));
+
+		// Dry baseline with stone columns, then the same layout with posts
+		context.waitAndRun(WARMUP_TICKS, () -> recorder[0] = TickRecorder.start(scenario + "_baseline", SAMPLE_TICKS));
+		context.waitAndRun(PHASE_TICKS, () -> {
+			baseline[0] = recorder[0].stop();
+			build(context, column);
+		});
+		context.waitAndRun(PHASE_TICKS + WARMUP_TICKS, () -> recorder[0] = TickRecorder.start(scenario, SAMPLE_TICKS));
+		context.waitAndRun(2 * PHASE_TICKS, () -> {
+			TickRecorder.Result result = recorder[0].stop();
+			double overhead = result.meanMspt() - baseline[0].meanMspt();
+			context.assertTrue(overhead <= MSPT_BUDGET, Text.literal(String.format(
+				"%s: mean %.2f mspt is %.2f mspt over the %.2f mspt baseline, budget %.2f mspt",
+				scenario, result.meanMspt(), overhead, baseline[0].meanMspt(), MSPT_BUDGET)));
+			context.complete();
+		});
+	}
+
+	private static void build(TestContext context, ColumnState column) {
+		BlockState stone = Blocks.STONE.getDefaultState();
+
+		for (int x = 0; x < SIZE; x++) {
+			for (int z = 0; z < SIZE; z++) {
+				context.setBlockState(new BlockPos(x, 0, z), stone);
+
+				if (isRim(x, z)) {
+					for (int y = POST_BOTTOM; y <= CAP; y++) context.setBlockState(new BlockPos(x, y, z), stone);
+				} else if (isColumn(x, z)) {
+					for (int y = POST_BOTTOM; y <= POST_TOP; y++) context.setBlockState(new BlockPos(x, y, z), column.get(y));
+				}
+			}
+		}
+	}
+
+	private static void drive(TestContext context, long tick) {
+		// Toggle the cap above every column so the top posts see a neighbor update each tick
+		BlockState cap = tick % 2 == 0 ? Blocks.STONE.getDefaultState() : Blocks.AIR.getDefaultState();
+		boolean drain = tick % DRAIN_INTERVAL == 0;
+
+		for (int x = 1; x < SIZE - 1; x++) {
+			for (int z = 1; z < SIZE - 1; z++) {
+				if (isColumn(x, z)) {
+					context.setBlockState(new BlockPos(x, CAP, z), cap);
+				} else if (drain) {
+					// Clear water that flowed into the gaps so it has to flow again
+					for (int y = POST_BOTTOM; y <= CAP; y++) context.setBlockState(new BlockPos(x, y, z), Blocks.AIR.getDefaultState());
+				}
+			}
+		}
+	}
+
+	private static boolean isRim(int x, int z) {
+		return x == 0 || z == 0 || x == SIZE - 1 || z == SIZE - 1;
+	}
+
+	private static boolean isColumn(int x, int z) {
+		return (x + z) % 2 == 0;
+	}
+
+	@FunctionalInterface
+	private interface ColumnState {
+		BlockState get(int y);
+	}
+}
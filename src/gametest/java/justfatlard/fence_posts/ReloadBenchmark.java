@@ -0,0 +1,173 @@
+package justfatlard.fence_posts;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.minecraft.block.AbstractBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.FenceBlock;
+import net.minecraft.block.WallBlock;
+import net.minecraft.item.BlockItem;
+import net.minecraft.item.Item;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.sound.BlockSoundGroup;
+import net.minecraft.util.Identifier;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Startup, world load and datapack reload timing for a dedicated server with extra post families,
+ * run with ./gradlew reloadBenchmark. Inert unless -Dfence-posts.benchmark.families is set.
+ * Each extra family gets a real source block in the benchmark's own namespace, half oak-like fences and half
+ * cobblestone-like walls, listed in minecraft:wooden_fences or minecraft:walls through an in-memory pack, so every
+ * family goes through the tag and recipe paths on reload. Families are registered through the public API on top of
+ * the bundled ones. Their client assets are generated too, but a dedicated server never loads them, so reload times
+ * only cover data. Once the server has started it reloads its datapacks a number of times, writes the timings as
+ * JSON to the report directory and stops.
+ */
+public class ReloadBenchmark implements ModInitializer {
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+	private static final String NAMESPACE = "fence-posts-benchmark";
+	private static final String FAMILIES = "fence-posts.benchmark.families";
+	private static final int RELOADS = Integer.getInteger("fence-posts.benchmark.reloads", 5);
+	private static final Path REPORT_DIR = Path.of(System.getProperty("fence-posts.benchmark.report", "fence-posts-benchmark"));
+
+	private int families;
+	private double registrationMillis;
+	private long worldLoadStart;
+	private double startupMillis;
+	private double worldLoadMillis;
+	private final long[] reloadNanos = new long[RELOADS];
+
+	@Override
+	public void onInitialize() {
+		if (System.getProperty(FAMILIES) == null) return;
+		families = Integer.getInteger(FAMILIES, 0);
+
+		long start = System.nanoTime();
+		registerFamilies();
+		registrationMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+		ServerLifecycleEvents.SERVER_STARTING.register(server -> worldLoadStart = System.nanoTime());
+		ServerLifecycleEvents.SERVER_STARTED.register(server -> {
+			worldLoadMillis = (System.nanoTime() - worldLoadStart) / 1_000_000.0;
+			startupMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+			reload(server, 0);
+		});
+	}
+
+	private void registerFamilies() {
+		GeneratedResourcePack pack = GeneratedResourcePack.register("benchmark");
+		JsonArray fences = new JsonArray();
+		JsonArray walls = new JsonArray();
+
+		for (int i = 0; i < families; i++) {
+			String baseName = "benchmark_" + i;
+			if (i % 2 == 0) {
+				Identifier id = registerSource(baseName + "_fence", FenceBlock::new, Blocks.OAK_FENCE);
+				fences.add(id.toString());
+				Main.registerFencePost(NAMESPACE, baseName, BlockSoundGroup.WOOD, true);
+				RuntimeResourceGenerator.generateFencePostResources(pack, baseName, NAMESPACE, "minecraft:block/oak_planks");
+			} else {
+				Identifier id = registerSource(baseName + "_wall", WallBlock::new, Blocks.COBBLESTONE_WALL);
+				walls.add(id.toString());
+				Main.registerWallPost(NAMESPACE, baseName, BlockSoundGroup.STONE);
+				RuntimeResourceGenerator.generateWallPostResources(pack, baseName, NAMESPACE, "minecraft:block/cobblestone");
+			}
+		}
+
+		// Tag the sources like their vanilla counterparts, so their posts pick up the same tags on every reload
+		writeTag(pack, "wooden_fences", fences);
+		writeTag(pack, "walls", walls);
+	}
+
+	// Source fence or wall with the settings of a vanilla one, plus its item for the conversion recipe
+	private static Identifier registerSource(String path, Function<AbstractBlock.Settings, Block> factory, Block settingsFrom) {
+		Identifier id = Identifier.of(NAMESPACE, path);
+		RegistryKey<Block> blockKey = RegistryKey.of(RegistryKeys.BLOCK, id);
+		Block block = Registry.register(Registries.BLOCK, blockKey, factory.apply(AbstractBlock.Settings.copy(settingsFrom).registryKey(blockKey)));
+
+		RegistryKey<Item> itemKey = RegistryKey.of(RegistryKeys.ITEM, id);
+		Registry.register(Registries.ITEM, itemKey, new BlockItem(block, new Item.Settings().registryKey(itemKey)));
+		return id;
+	}
+
+	private static void writeTag(GeneratedResourcePack pack, String tag, JsonArray values) {
+		if (values.isEmpty()) return;
+
+		JsonObject json = new JsonObject();
+		json.add("values", values);
+		pack.write("data/minecraft/tags/block/" + tag + ".json", GSON.toJson(json).getBytes(StandardCharsets.UTF_8));
+	}
+
+	// Reloads run back to back on the server thread, each starting once the previous one has been applied
+	private void reload(MinecraftServer server, int round) {
+		if (round == RELOADS) {
+			finish(server);
+			return;
+		}
+
+		long start = System.nanoTime();
+		server.reloadResources(server.getDataPackManager().getEnabledIds()).whenComplete((result, error) -> server.execute(() -> {
+			if (error != null) {
+				System.out.println("[" + Main.MOD_ID + "] Reload benchmark failed: " + error.getMessage());
+				server.stop(false);
+				return;
+			}
+			reloadNanos[round] = System.nanoTime() - start;
+			reload(server, round + 1);
+		}));
+	}
+
+	private void finish(MinecraftServer server) {
+		long[] sorted = reloadNanos.clone();
+		Arrays.sort(sorted);
+		double mean = Arrays.stream(sorted).average().orElse(0) / 1_000_000.0;
+
+		JsonObject report = new JsonObject();
+		report.addProperty("extraFamilies", families);
+		report.addProperty("note", "Dedicated server: reloads cover data (tags, recipes, loot tables) only, not the generated assets");
+		report.addProperty("totalFamilies", Main.getFamilyCount());
+		report.addProperty("registrationMillis", registrationMillis);
+		report.addProperty("startupMillis", startupMillis);
+		report.addProperty("worldLoadMillis", worldLoadMillis);
+		report.addProperty("reloadMeanMillis", mean);
+		report.addProperty("reloadMinMillis", sorted.length > 0 ? sorted[0] / 1_000_000.0 : 0);
+		report.addProperty("reloadMaxMillis", sorted.length > 0 ? sorted[sorted.length - 1] / 1_000_000.0 : 0);
+		JsonArray reloads = new JsonArray();
+		for (long nanos : reloadNanos) reloads.add(nanos / 1_000_000.0);
+		report.add("reloadMillis", reloads);
+
+		System.out.println("[" + Main.MOD_ID + "] Reload benchmark, " + families + " extra families: startup " +
+			String.format("%.0f", startupMillis) + " ms, world load " + String.format("%.0f", worldLoadMillis) +
+			" ms, reload mean " + String.format("%.1f", mean) + " ms over " + RELOADS);
+
+		Path file = REPORT_DIR.resolve("families-" + families + ".json");
+		try {
+			Files.createDirectories(REPORT_DIR);
+			try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+				GSON.toJson(report, writer);
+			}
+		} catch (IOException e) {
+			System.out.println("[" + Main.MOD_ID + "] Failed to write " + file + ": " + e.getMessage());
+		}
+
+		server.stop(false);
+	}
+}
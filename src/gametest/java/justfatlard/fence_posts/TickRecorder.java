@@ -0,0 +1,122 @@
+package justfatlard.fence_posts;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.loader.api.FabricLoader;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Records the duration of every server tick while a scenario is sampling,
+ * along with the fluid ticks posts scheduled and suppressed during it.
+ */
+final class TickRecorder {
+	private static boolean registered = false;
+	private static TickRecorder active;
+
+	private final String scenario;
+	private final long[] tickNanos;
+	private final long[] scheduled;
+	private final long[] suppressed;
+	private int ticks = 0;
+	private long tickStart;
+	private long scheduledAtStart;
+	private long suppressedAtStart;
+
+	private TickRecorder(String scenario, int maxTicks) {
+		this.scenario = scenario;
+		this.tickNanos = new long[maxTicks];
+		this.scheduled = new long[maxTicks];
+		this.suppressed = new long[maxTicks];
+	}
+
+	/**
+	 * Start recording server ticks for a scenario. Scenarios run in separate batches, so only one records at a time.
+	 */
+	static synchronized TickRecorder start(String scenario, int maxTicks) {
+		if (!registered) {
+			ServerTickEvents.START_SERVER_TICK.register(server -> {
+				if (active != null) active.onTickStart();
+			});
+			ServerTickEvents.END_SERVER_TICK.register(server -> {
+				if (active != null) active.onTickEnd();
+			});
+			registered = true;
+		}
+
+		active = new TickRecorder(scenario, maxTicks);
+		return active;
+	}
+
+	private void onTickStart() {
+		tickStart = System.nanoTime();
+		scheduledAtStart = PostFluidTicks.getScheduledCount();
+		suppressedAtStart = PostFluidTicks.getSuppressedCount();
+	}
+
+	private void onTickEnd() {
+		// Skip the partial tick the recorder was started in
+		if (tickStart == 0 || ticks == tickNanos.length) return;
+
+		tickNanos[ticks] = System.nanoTime() - tickStart;
+		scheduled[ticks] = PostFluidTicks.getScheduledCount() - scheduledAtStart;
+		suppressed[ticks] = PostFluidTicks.getSuppressedCount() - suppressedAtStart;
+		ticks++;
+	}
+
+	/**
+	 * Stop recording and log a summary.
+	 */
+	Result stop() {
+		synchronized (TickRecorder.class) {
+			if (active == this) active = null;
+		}
+
+		long[] sorted = Arrays.copyOf(tickNanos, ticks);
+		Arrays.sort(sorted);
+		long total = Arrays.stream(sorted).sum();
+
+		Result result = new Result(
+			scenario,
+			ticks,
+			ticks == 0 ? 0 : total / 1_000_000.0 / ticks,
+			ticks == 0 ? 0 : sorted[Math.min(ticks - 1, (int) Math.ceil(ticks * 0.95) - 1)] / 1_000_000.0,
+			ticks == 0 ? 0 : sorted[ticks - 1] / 1_000_000.0,
+			Arrays.stream(scheduled, 0, ticks).sum(),
+			Arrays.stream(suppressed, 0, ticks).sum()
+		);
+
+		System.out.println("[" + Main.MOD_ID + "] " + result);
+		writeReport();
+		return result;
+	}
+
+	// Per-tick samples as CSV in the game directory, for plotting
+	private void writeReport() {
+		Path file = FabricLoader.getInstance().getGameDir().resolve("fence-posts-gametest").resolve(scenario + ".csv");
+
+		try {
+			Files.createDirectories(file.getParent());
+			try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+				writer.write("tick,mspt,fluid_ticks_scheduled,fluid_ticks_suppressed\n");
+				for (int i = 0; i < ticks; i++) {
+					writer.write(i + "," + String.format("%.3f", tickNanos[i] / 1_000_000.0) + "," + scheduled[i] + "," + suppressed[i] + "\n");
+				}
+			}
+		} catch (IOException e) {
+			System.out.println("[" + Main.MOD_ID + "] Failed to write tick report " + file + ": " + e.getMessage());
+		}
+	}
+
+	record Result(String scenario, int ticks, double meanMspt, double p95Mspt, double maxMspt, long fluidTicksScheduled, long fluidTicksSuppressed) {
+		@Override
+		public String toString() {
+			return String.format("%s: %d ticks, mean %.2f mspt, p95 %.2f mspt, max %.2f mspt, %d fluid ticks scheduled, %d suppressed",
+				scenario, ticks, meanMspt, p95Mspt, maxMspt, fluidTicksScheduled, fluidTicksSuppressed);
+		}
+	}
+}
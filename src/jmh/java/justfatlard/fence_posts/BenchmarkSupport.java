@@ -0,0 +1,85 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.AbstractBlock;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.SimpleRegistry;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.tick.QueryableTickScheduler;
+import net.minecraft.world.tick.ScheduledTickView;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.IdentityHashMap;
+
+/**
+ * Minimal game environment for running benchmarks outside of Fabric Loader.
+ */
+final class BenchmarkSupport {
+	private static boolean bootstrapped = false;
+
+	private BenchmarkSupport() {}
+
+	/**
+	 * Bootstrap vanilla registries and reopen the block and item registries, which bootstrap freezes,
+	 * so benchmarks can construct and register blocks the way mod initialization does.
+	 */
+	static synchronized void bootstrap() {
+		if (bootstrapped) return;
+
+		SharedConstants.createGameVersion();
+		Bootstrap.initialize();
+
+		try {
+			unfreeze(Registries.BLOCK);
+			unfreeze(Registries.ITEM);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Failed to unfreeze registries for benchmarking", e);
+		}
+
+		bootstrapped = true;
+	}
+
+	private static void unfreeze(Registry<?> registry) throws ReflectiveOperationException {
+		Field frozen = SimpleRegistry.class.getDeclaredField("frozen");
+		frozen.setAccessible(true);
+		frozen.setBoolean(registry, false);
+
+		// Blocks and items create intrusive registry entries in their constructors
+		Field intrusive = SimpleRegistry.class.getDeclaredField("intrusiveValueToEntry");
+		intrusive.setAccessible(true);
+		if (intrusive.get(registry) == null) intrusive.set(registry, new IdentityHashMap<>());
+	}
+
+	static AbstractBlock.Settings blockSettings(String name) {
+		return AbstractBlock.Settings.create()
+			.registryKey(RegistryKey.of(RegistryKeys.BLOCK, Identifier.of(Main.MOD_ID, name)))
+			.strength(2.0f, 3.0f);
+	}
+
+	/**
+	 * Tick view that accepts and discards scheduled ticks and reports nothing as queued.
+	 */
+	static ScheduledTickView discardingTickView() {
+		Object scheduler = stub(QueryableTickScheduler.class, null);
+		return (ScheduledTickView) stub(ScheduledTickView.class, scheduler);
+	}
+
+	private static Object stub(Class<?> type, Object scheduler) {
+		return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) ->
+			scheduler != null && method.getName().endsWith("TickScheduler") ? scheduler : defaultValue(method));
+	}
+
+	private static Object defaultValue(Method method) {
+		Class<?> type = method.getReturnType();
+		if (type == boolean.class) return false;
+		if (type == int.class) return 0;
+		if (type == long.class) return 0L;
+		return null;
+	}
+}
@@ -0,0 +1,87 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.ShapeContext;
+import net.minecraft.block.enums.SlabType;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.util.shape.VoxelShape;
+import net.minecraft.world.tick.ScheduledTickView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of the post slab hot paths: placement, replacement, shape lookup and neighbor updates.
+ * Placement and replacement are measured through SlabPlacement since building an ItemPlacementContext needs a live world.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostBlockBenchmark {
+	private FencePostSlab slab;
+	private BlockState air;
+	private BlockState bottom;
+	private BlockState top;
+	private BlockState waterloggedBottom;
+	private ScheduledTickView tickView;
+	private final BlockPos pos = BlockPos.ORIGIN;
+	private final BlockPos neighborPos = BlockPos.ORIGIN.up();
+	private final Random random = Random.create(0);
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkSupport.bootstrap();
+		slab = new FencePostSlab(BenchmarkSupport.blockSettings("benchmark_fence_post_slab"));
+		air = Blocks.AIR.getDefaultState();
+		bottom = slab.getDefaultState();
+		top = bottom.with(FencePostSlab.TYPE, SlabType.TOP);
+		waterloggedBottom = bottom.with(FencePostSlab.WATERLOGGED, true);
+		tickView = BenchmarkSupport.discardingTickView();
+	}
+
+	@Benchmark
+	public BlockState placementStateNew() {
+		return SlabPlacement.getPlacementState(slab.getDefaultState(), air, false, Direction.NORTH, 0.75D);
+	}
+
+	@Benchmark
+	public BlockState placementStateStack() {
+		return SlabPlacement.getPlacementState(slab.getDefaultState(), bottom, false, Direction.UP, 0.5D);
+	}
+
+	@Benchmark
+	public boolean canReplace() {
+		return SlabPlacement.canReplace(bottom, true, true, Direction.UP, 0.5D);
+	}
+
+	@Benchmark
+	public VoxelShape outlineShape() {
+		return slab.getOutlineShape(top, null, pos, ShapeContext.absent());
+	}
+
+	@Benchmark
+	public BlockState neighborUpdateDry() {
+		return slab.getStateForNeighborUpdate(bottom, null, tickView, pos, Direction.UP, neighborPos, air, random);
+	}
+
+	@Benchmark
+	public BlockState neighborUpdateWaterlogged() {
+		return slab.getStateForNeighborUpdate(waterloggedBottom, null, tickView, pos, Direction.UP, neighborPos, air, random);
+	}
+}
@@ -0,0 +1,102 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.block.Block;
+import net.minecraft.item.ItemStack;
+import net.minecraft.recipe.CraftingRecipe;
+import net.minecraft.recipe.Ingredient;
+import net.minecraft.recipe.ShapelessRecipe;
+import net.minecraft.recipe.book.CraftingRecipeCategory;
+import net.minecraft.recipe.input.CraftingRecipeInput;
+import net.minecraft.registry.Registries;
+import net.minecraft.sound.BlockSoundGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Crafting grid lookup for a post conversion: the shared post conversion recipe against a first-match scan over
+ * two shapeless recipes per family, which is how the recipe manager found the per-family recipes.
+ * Every vanilla fence and wall gets a family, padded with extra families that only have post to slab recipes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecipeBenchmark {
+	@Param({"0", "500"})
+	public int extraFamilies;
+
+	private final PostConversionRecipe conversion = new PostConversionRecipe(CraftingRecipeCategory.MISC);
+	private List<CraftingRecipe> shapeless;
+	private CraftingRecipeInput input;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkSupport.bootstrap();
+
+		List<PostSpec> specs = new ArrayList<>();
+		RegistryIndex index = new RegistryIndex();
+		for (Block block : Registries.BLOCK) {
+			index.add(Registries.BLOCK.getId(block), block);
+		}
+		for (RegistryIndex.Entry fence : index.getFences()) {
+			specs.add(PostSpec.fence(fence.baseName(), BlockSoundGroup.WOOD, true));
+		}
+		for (RegistryIndex.Entry wall : index.getWalls()) {
+			specs.add(PostSpec.wall(wall.baseName(), BlockSoundGroup.STONE));
+		}
+		for (int i = 0; i < extraFamilies; i++) {
+			specs.add(PostSpec.fence("benchmark_" + i, BlockSoundGroup.WOOD, true));
+		}
+
+		shapeless = new ArrayList<>(2 * specs.size());
+		for (RegistrationResult.Registered family : Main.registerPosts(specs).registered()) {
+			PostFamily registered = Main.getFamily(family.post());
+			if (registered.source() != null) {
+				shapeless.add(recipe(registered.source(), registered.post()));
+			}
+			shapeless.add(recipe(registered.post(), registered.slab()));
+		}
+		shapeless = Collections.unmodifiableList(shapeless);
+
+		// The last vanilla wall, so the scan walks past every vanilla recipe
+		RegistryIndex.Entry wall = index.getWalls().get(index.getWalls().size() - 1);
+		input = CraftingRecipeInput.create(3, 3, List.of(
+			ItemStack.EMPTY, ItemStack.EMPTY, ItemStack.EMPTY,
+			ItemStack.EMPTY, new ItemStack(wall.block()), ItemStack.EMPTY,
+			ItemStack.EMPTY, ItemStack.EMPTY, ItemStack.EMPTY));
+	}
+
+	private static CraftingRecipe recipe(Block from, Block to) {
+		return new ShapelessRecipe("", CraftingRecipeCategory.MISC, new ItemStack(to, 2), List.of(Ingredient.ofItem(from)));
+	}
+
+	@Benchmark
+	public ItemStack postConversion() {
+		return conversion.matches(input, null) ? conversion.craft(input, null) : ItemStack.EMPTY;
+	}
+
+	@Benchmark
+	public ItemStack shapelessScan() {
+		for (CraftingRecipe recipe : shapeless) {
+			if (recipe.matches(input, null)) return recipe.craft(input, null);
+		}
+		return ItemStack.EMPTY;
+	}
+}
@@ -0,0 +1,55 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.sound.BlockSoundGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of registering many post families through the public API.
+ * Every invocation registers fresh names, so the registries keep growing as they would in a large modpack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RegistrationBenchmark {
+	@Param({"100", "1000"})
+	public int families;
+
+	private int round = 0;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkSupport.bootstrap();
+	}
+
+	@Benchmark
+	public void registerFencePosts() {
+		String prefix = "benchmark" + round++ + "_";
+		for (int i = 0; i < families; i++) {
+			Main.registerFencePost(prefix + i, BlockSoundGroup.WOOD, true);
+		}
+	}
+
+	@Benchmark
+	public void registerWallPosts() {
+		String prefix = "benchmark" + round++ + "_";
+		for (int i = 0; i < families; i++) {
+			Main.registerWallPost(prefix + i, BlockSoundGroup.STONE);
+		}
+	}
+}
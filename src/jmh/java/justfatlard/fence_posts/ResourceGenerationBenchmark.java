@@ -0,0 +1,100 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.block.Block;
+import net.minecraft.registry.Registries;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Registry classification and end-to-end resource generation, to memory and to disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceGenerationBenchmark {
+	// Deduplicated or fully expanded models and blockstates
+	@Param({"true", "false"})
+	public boolean deduped;
+
+	private GeneratedResourcePack pack;
+	private List<RuntimeResourceGenerator.FenceInfo> fences;
+	private List<RuntimeResourceGenerator.WallInfo> walls;
+	private Path outputRoot;
+	private int round = 0;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		BenchmarkSupport.bootstrap();
+		RuntimeResourceGenerator.setDedupedModels(deduped);
+		pack = new GeneratedResourcePack("benchmark");
+
+		// Every vanilla fence and wall, standing in for discovered modded blocks
+		RegistryIndex index = classifyRegistry();
+		fences = index.getFences().stream().map(entry -> new RuntimeResourceGenerator.FenceInfo(entry.id(), entry.block())).toList();
+		walls = index.getWalls().stream().map(entry -> new RuntimeResourceGenerator.WallInfo(entry.id(), entry.block())).toList();
+
+		outputRoot = Files.createTempDirectory("fence-posts-benchmark");
+	}
+
+	@TearDown(Level.Iteration)
+	public void clearOutput() throws IOException {
+		try (Stream<Path> files = Files.walk(outputRoot)) {
+			for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+				if (!path.equals(outputRoot)) Files.delete(path);
+			}
+		}
+	}
+
+	@Benchmark
+	public RegistryIndex classifyRegistry() {
+		RegistryIndex index = new RegistryIndex();
+		for (Block block : Registries.BLOCK) {
+			index.add(Registries.BLOCK.getId(block), block);
+		}
+		return index;
+	}
+
+	@Benchmark
+	public int generateFencePostToPack() {
+		pack.clear();
+		RuntimeResourceGenerator.generateFencePostResources(pack, "oak", "minecraft", "minecraft:block/oak_planks");
+		return pack.size();
+	}
+
+	@Benchmark
+	public void generateFencePostToDirectory() throws IOException {
+		// A fresh directory each time so the generation cache never skips the work
+		Path output = outputRoot.resolve(Integer.toString(round++));
+		RuntimeResourceGenerator.generateFencePostResources(output, "oak", "minecraft", "minecraft:block/oak_planks");
+		RuntimeResourceGenerator.finishGeneration(output);
+	}
+
+	@Benchmark
+	public int generateAllToPack() {
+		pack.clear();
+		RuntimeResourceGenerator.generateAll(pack, fences, walls);
+		return pack.size();
+	}
+}
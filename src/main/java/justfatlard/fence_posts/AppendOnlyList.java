@@ -0,0 +1,62 @@
+package justfatlard.fence_posts;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A list that only grows, with constant time snapshots.
+ * Slots below the size are never written again, so a snapshot shares the backing array instead of copying it;
+ * growing moves later elements to a new array and leaves the old one to the snapshots that still use it.
+ * Not thread safe, callers synchronize writes and publish snapshots safely (e.g. through a volatile field).
+ */
+final class AppendOnlyList<E> {
+	private Object[] elements = new Object[16];
+	private int size;
+
+	int size() {
+		return size;
+	}
+
+	void ensureCapacity(int capacity) {
+		if (capacity > elements.length) {
+			elements = Arrays.copyOf(elements, Math.max(capacity, elements.length + (elements.length >> 1)));
+		}
+	}
+
+	void add(E element) {
+		ensureCapacity(size + 1);
+		elements[size++] = Objects.requireNonNull(element);
+	}
+
+	/**
+	 * @return An immutable view of the current elements, unaffected by later additions
+	 */
+	List<E> snapshot() {
+		return size == 0 ? List.of() : new Snapshot<>(elements, size);
+	}
+
+	private static final class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+		private final Object[] elements;
+		private final int size;
+
+		Snapshot(Object[] elements, int size) {
+			this.elements = elements;
+			this.size = size;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public E get(int index) {
+			Objects.checkIndex(index, size);
+			return (E) elements[index];
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+	}
+}
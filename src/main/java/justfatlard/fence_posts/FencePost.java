@@ -8,6 +8,8 @@ import net.minecraft.block.Waterloggable;
 import net.minecraft.fluid.FluidState;
 import net.minecraft.fluid.Fluids;
 import net.minecraft.item.ItemPlacementContext;
+import net.minecraft.item.ItemStack;
+import net.minecraft.loot.context.LootWorldContext;
 import net.minecraft.state.StateManager;
 import net.minecraft.state.property.BooleanProperty;
 import net.minecraft.state.property.Properties;
@@ -19,8 +21,11 @@ import net.minecraft.world.BlockView;
 import net.minecraft.world.WorldView;
 import net.minecraft.world.tick.ScheduledTickView;
 
+import java.util.List;
+
 /**
- * Full-height (16px) fence post - a standalone post that doesn't connect to fences.
+ * Full-height (16px) fence post - a standalone post with no connections of its own.
+ * It shares its source fence's block tags (see PostTags), including minecraft:fences, so neighboring fences connect to it.
  * 4x4 centered shape matching fence post dimensions.
  */
 public class FencePost extends Block implements Waterloggable {
@@ -37,11 +42,28 @@ public class FencePost extends Block implements Waterloggable {
 		builder.add(WATERLOGGED);
 	}
 
+	// Every state has the same shape, so the lookup is a constant rather than a table
+
 	@Override
 	public VoxelShape getOutlineShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
 		return SHAPE;
 	}
 
+	@Override
+	public VoxelShape getCollisionShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
+		return SHAPE;
+	}
+
+	@Override
+	public VoxelShape getCameraCollisionShape(BlockState state, BlockView world, BlockPos pos, ShapeContext context) {
+		return SHAPE;
+	}
+
+	@Override
+	public VoxelShape getCullingShape(BlockState state) {
+		return SHAPE;
+	}
+
 	@Override
 	public BlockState getPlacementState(ItemPlacementContext ctx) {
 		FluidState fluidState = ctx.getWorld().getFluidState(ctx.getBlockPos());
@@ -53,11 +75,14 @@ public class FencePost extends Block implements Waterloggable {
 		return state.get(WATERLOGGED) ? Fluids.WATER.getStill(false) : super.getFluidState(state);
 	}
 
+	@Override
+	protected List<ItemStack> getDroppedStacks(BlockState state, LootWorldContext.Builder builder) {
+		return PostDrops.getDrops(state, builder, 1, () -> super.getDroppedStacks(state, builder));
+	}
+
 	@Override
 	public BlockState getStateForNeighborUpdate(BlockState state, WorldView world, ScheduledTickView tickView, BlockPos pos, Direction direction, BlockPos neighborPos, BlockState neighborState, Random random) {
-		if (state.get(WATERLOGGED)) {
-			tickView.scheduleFluidTick(pos, Fluids.WATER, Fluids.WATER.getTickRate(world));
-		}
+		PostFluidTicks.onNeighborUpdate(state, world, tickView, pos, neighborState);
 		return super.getStateForNeighborUpdate(state, world, tickView, pos, direction, neighborPos, neighborState, random);
 	}
 
@@ -10,6 +10,7 @@ import net.minecraft.fluid.FluidState;
 import net.minecraft.fluid.Fluids;
 import net.minecraft.item.ItemPlacementContext;
 import net.minecraft.item.ItemStack;
+import net.minecraft.loot.context.LootWorldContext;
 import net.minecraft.state.StateManager;
 import net.minecraft.state.property.BooleanProperty;
 import net.minecraft.state.property.EnumProperty;
@@ -22,6 +23,8 @@ import net.minecraft.world.BlockView;
 import net.minecraft.world.WorldView;
 import net.minecraft.world.tick.ScheduledTickView;
 
+import java.util.List;
+
 /**
  * Half-height (8px) fence post slab with stackable behavior.
  * 4x4 centered shape matching fence post dimensions.
@@ -59,45 +62,17 @@ public class FencePostSlab extends Block implements Waterloggable {
 		BlockPos blockPos = ctx.getBlockPos();
 		BlockState blockState = ctx.getWorld().getBlockState(blockPos);
 
-		if (blockState.isOf(this)) {
-			return blockState.with(TYPE, SlabType.DOUBLE).with(WATERLOGGED, false);
-		}
-
-		FluidState fluidState = ctx.getWorld().getFluidState(blockPos);
-		BlockState newState = this.getDefaultState().with(WATERLOGGED, fluidState.getFluid() == Fluids.WATER);
-
-		Direction side = ctx.getSide();
-		if (side == Direction.DOWN) {
-			return newState.with(TYPE, SlabType.TOP);
-		} else if (side == Direction.UP) {
-			return newState.with(TYPE, SlabType.BOTTOM);
-		} else {
-			double hitY = ctx.getHitPos().y - (double)blockPos.getY();
-			return newState.with(TYPE, hitY > 0.5D ? SlabType.TOP : SlabType.BOTTOM);
-		}
+		// Stacking onto an existing slab never waterlogs, so skip the fluid lookup
+		boolean inWater = !blockState.isOf(this) && ctx.getWorld().getFluidState(blockPos).getFluid() == Fluids.WATER;
+
+		return SlabPlacement.getPlacementState(this.getDefaultState(), blockState, inWater,
+			ctx.getSide(), ctx.getHitPos().y - (double)blockPos.getY());
 	}
 
 	@Override
 	public boolean canReplace(BlockState state, ItemPlacementContext context) {
-		ItemStack itemStack = context.getStack();
-		SlabType slabType = state.get(TYPE);
-
-		if (slabType == SlabType.DOUBLE || !itemStack.isOf(this.asItem())) {
-			return false;
-		}
-
-		if (context.canReplaceExisting()) {
-			boolean clickedTop = context.getHitPos().y - (double)context.getBlockPos().getY() > 0.5D;
-			Direction side = context.getSide();
-
-			if (slabType == SlabType.BOTTOM) {
-				return side == Direction.UP || (clickedTop && side.getAxis().isHorizontal());
-			} else {
-				return side == Direction.DOWN || (!clickedTop && side.getAxis().isHorizontal());
-			}
-		}
-
-		return true;
+		return SlabPlacement.canReplace(state, context.getStack().isOf(this.asItem()), context.canReplaceExisting(),
+			context.getSide(), context.getHitPos().y - (double)context.getBlockPos().getY());
 	}
 
 	@Override
@@ -105,11 +80,14 @@ public class FencePostSlab extends Block implements Waterloggable {
 		return state.get(WATERLOGGED) ? Fluids.WATER.getStill(false) : super.getFluidState(state);
 	}
 
+	@Override
+	protected List<ItemStack> getDroppedStacks(BlockState state, LootWorldContext.Builder builder) {
+		return PostDrops.getDrops(state, builder, state.get(TYPE) == SlabType.DOUBLE ? 2 : 1, () -> super.getDroppedStacks(state, builder));
+	}
+
 	@Override
 	public BlockState getStateForNeighborUpdate(BlockState state, WorldView world, ScheduledTickView tickView, BlockPos pos, Direction direction, BlockPos neighborPos, BlockState neighborState, Random random) {
-		if (state.get(WATERLOGGED)) {
-			tickView.scheduleFluidTick(pos, Fluids.WATER, Fluids.WATER.getTickRate(world));
-		}
+		PostFluidTicks.onNeighborUpdate(state, world, tickView, pos, neighborState);
 		return super.getStateForNeighborUpdate(state, world, tickView, pos, direction, neighborPos, neighborState, random);
 	}
 
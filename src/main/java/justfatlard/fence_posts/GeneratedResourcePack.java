@@ -0,0 +1,161 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.resource.InputSupplier;
+import net.minecraft.resource.ResourcePack;
+import net.minecraft.resource.ResourcePackCompatibility;
+import net.minecraft.resource.ResourcePackInfo;
+import net.minecraft.resource.ResourcePackPosition;
+import net.minecraft.resource.ResourcePackProfile;
+import net.minecraft.resource.ResourcePackSource;
+import net.minecraft.resource.ResourceType;
+import net.minecraft.resource.featuretoggle.FeatureFlags;
+import net.minecraft.resource.metadata.ResourceMetadataSerializer;
+import net.minecraft.text.Text;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Resource pack held entirely in memory.
+ * Generated models, blockstates and items are stored as byte arrays
+ * and served straight to the client and server resource managers, so nothing touches the disk.
+ * Registered packs are added to every resource pack manager (see ResourcePackManagerMixin).
+ */
+public class GeneratedResourcePack implements ResourcePack, ResourceOutput {
+	// Packs offered to the resource pack managers
+	private static final List<GeneratedResourcePack> PACKS = new CopyOnWriteArrayList<>();
+
+	private final ResourcePackInfo info;
+	private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+
+	public GeneratedResourcePack(String name) {
+		this.info = new ResourcePackInfo(Main.MOD_ID + "/" + name, Text.literal("Fence Posts (" + name + ")"),
+			ResourcePackSource.BUILTIN, Optional.empty());
+	}
+
+	/**
+	 * Create an in-memory pack and offer it to the client and server resource managers.
+	 * Contents can be added at any time; they are picked up on the next resource reload.
+	 */
+	public static GeneratedResourcePack register(String name) {
+		GeneratedResourcePack pack = new GeneratedResourcePack(name);
+		PACKS.add(pack);
+		return pack;
+	}
+
+	/**
+	 * Resource pack provider callback, adds a profile for each registered pack.
+	 */
+	public static void provide(Consumer<ResourcePackProfile> profileAdder) {
+		for (GeneratedResourcePack pack : PACKS) {
+			profileAdder.accept(pack.createProfile());
+		}
+	}
+
+	private ResourcePackProfile createProfile() {
+		ResourcePackProfile.PackFactory factory = new ResourcePackProfile.PackFactory() {
+			@Override
+			public ResourcePack open(ResourcePackInfo info) {
+				return GeneratedResourcePack.this;
+			}
+
+			@Override
+			public ResourcePack openWithOverlays(ResourcePackInfo info, ResourcePackProfile.Metadata metadata) {
+				return GeneratedResourcePack.this;
+			}
+		};
+		ResourcePackProfile.Metadata metadata = new ResourcePackProfile.Metadata(
+			info.title(), ResourcePackCompatibility.COMPATIBLE, FeatureFlags.VANILLA_FEATURES, List.of());
+
+		// Required so it is always enabled, placed above the mod resources
+		return new ResourcePackProfile(info, factory, metadata,
+			new ResourcePackPosition(true, ResourcePackProfile.InsertionPosition.TOP, false));
+	}
+
+	@Override
+	public void write(String path, byte[] data) {
+		files.put(path, data);
+	}
+
+	public int size() {
+		return files.size();
+	}
+
+	public void clear() {
+		files.clear();
+	}
+
+	@Nullable
+	@Override
+	public InputSupplier<InputStream> openRoot(String... segments) {
+		return open(String.join("/", segments));
+	}
+
+	@Nullable
+	@Override
+	public InputSupplier<InputStream> open(ResourceType type, Identifier id) {
+		return open(type.getDirectory() + "/" + id.getNamespace() + "/" + id.getPath());
+	}
+
+	@Nullable
+	private InputSupplier<InputStream> open(String path) {
+		byte[] data = files.get(path);
+		return data == null ? null : () -> new ByteArrayInputStream(data);
+	}
+
+	@Override
+	public void findResources(ResourceType type, String namespace, String prefix, ResultConsumer consumer) {
+		String root = type.getDirectory() + "/" + namespace + "/";
+		String start = prefix.isEmpty() ? root : root + prefix + "/";
+
+		for (Map.Entry<String, byte[]> file : files.entrySet()) {
+			String path = file.getKey();
+			if (!path.startsWith(start)) continue;
+
+			byte[] data = file.getValue();
+			consumer.accept(Identifier.of(namespace, path.substring(root.length())), () -> new ByteArrayInputStream(data));
+		}
+	}
+
+	@Override
+	public Set<String> getNamespaces(ResourceType type) {
+		String directory = type.getDirectory() + "/";
+		Set<String> namespaces = new HashSet<>();
+
+		for (String path : files.keySet()) {
+			if (!path.startsWith(directory)) continue;
+
+			int end = path.indexOf('/', directory.length());
+			if (end > 0) namespaces.add(path.substring(directory.length(), end));
+		}
+
+		return namespaces;
+	}
+
+	@Nullable
+	@Override
+	public <T> T parseMetadata(ResourceMetadataSerializer<T> metadataSerializer) {
+		// Profile metadata is supplied directly in createProfile, there is no pack.mcmeta
+		return null;
+	}
+
+	@Override
+	public ResourcePackInfo getInfo() {
+		return info;
+	}
+
+	@Override
+	public void close() {
+		// Contents live for the whole session and are reused on every reload
+	}
+}
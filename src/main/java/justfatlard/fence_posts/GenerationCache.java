@@ -0,0 +1,183 @@
+package justfatlard.fence_posts;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Persistent record of the post families generated into an output directory.
+ * Each family is keyed by a hash of its block id, texture, generator version and output mode,
+ * so unchanged families are skipped on warm starts and families that are no longer
+ * generated (e.g. a removed mod) have their files pruned.
+ */
+public class GenerationCache {
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+	private static final String FILE_NAME = ".fence-posts-cache.json";
+
+	// Totals across all output directories, reported in the startup log
+	private static final AtomicInteger HITS = new AtomicInteger();
+	private static final AtomicInteger MISSES = new AtomicInteger();
+
+	private final Path root;
+	private final Map<String, Entry> entries = new HashMap<>();
+	private final Set<String> seen = new HashSet<>();
+
+	private GenerationCache(Path root) {
+		this.root = root;
+	}
+
+	public static int getHits() { return HITS.get(); }
+	public static int getMisses() { return MISSES.get(); }
+
+	/**
+	 * Load the cache for an output directory. A missing or unreadable cache file starts empty.
+	 */
+	public static GenerationCache load(Path root) {
+		GenerationCache cache = new GenerationCache(root);
+		Path file = root.resolve(FILE_NAME);
+		if (!Files.isRegularFile(file)) return cache;
+
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			JsonObject json = GSON.fromJson(reader, JsonObject.class);
+			if (json == null) return cache;
+
+			JsonElement families = json.get("families");
+			if (families == null || !families.isJsonObject()) throw new JsonParseException("Missing families object");
+
+			for (Map.Entry<String, JsonElement> family : families.getAsJsonObject().entrySet()) {
+				if (!family.getValue().isJsonObject()) throw new JsonParseException("Family " + family.getKey() + " is not an object");
+				JsonObject obj = family.getValue().getAsJsonObject();
+				JsonElement hash = obj.get("hash");
+				JsonElement paths = obj.get("files");
+				if (!isString(hash) || paths == null || !paths.isJsonArray()) {
+					throw new JsonParseException("Family " + family.getKey() + " needs a hash and a files array");
+				}
+
+				List<String> files = new ArrayList<>();
+				for (JsonElement path : paths.getAsJsonArray()) {
+					if (!isString(path)) throw new JsonParseException("Family " + family.getKey() + " has a non-string file path");
+					files.add(path.getAsString());
+				}
+				cache.entries.put(family.getKey(), new Entry(hash.getAsString(), files));
+			}
+		} catch (IOException | JsonParseException | IllegalStateException e) {
+			System.out.println("[" + Main.MOD_ID + "] Ignoring unreadable generation cache " + file + ": " + e.getMessage());
+			cache.entries.clear();
+		}
+
+		return cache;
+	}
+
+	private static boolean isString(JsonElement element) {
+		return element != null && element.isJsonPrimitive() && element.getAsJsonPrimitive().isString();
+	}
+
+	/**
+	 * Hash the inputs that determine a family's generated files.
+	 */
+	public static String hash(String kind, String blockId, String texturePath, int generatorVersion, String outputMode) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			String key = kind + '\n' + blockId + '\n' + texturePath + '\n' + generatorVersion + '\n' + outputMode;
+			return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			// SHA-256 is required to be present in every JRE
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Check whether a family is already generated with the same hash and all of its files still exist.
+	 * Counts a hit or miss and marks the family as live either way.
+	 */
+	public boolean isCurrent(String family, String hash) {
+		seen.add(family);
+		Entry entry = entries.get(family);
+
+		if (entry != null && entry.hash.equals(hash) && entry.files.stream().allMatch(path -> Files.isRegularFile(root.resolve(path)))) {
+			HITS.incrementAndGet();
+			return true;
+		}
+
+		MISSES.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * Record the files written for a family, deleting files it had before but no longer generates.
+	 */
+	public void record(String family, String hash, List<String> files) throws IOException {
+		seen.add(family);
+		Entry previous = entries.put(family, new Entry(hash, List.copyOf(files)));
+		if (previous == null) return;
+
+		for (String path : previous.files) {
+			if (!files.contains(path)) Files.deleteIfExists(root.resolve(path));
+		}
+	}
+
+	/**
+	 * Delete the files of every family that was not generated or checked since the cache was loaded.
+	 *
+	 * @return The number of families pruned
+	 */
+	public int prune() throws IOException {
+		int pruned = 0;
+
+		for (Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator(); it.hasNext(); ) {
+			Map.Entry<String, Entry> family = it.next();
+			if (seen.contains(family.getKey())) continue;
+
+			for (String path : family.getValue().files) {
+				Files.deleteIfExists(root.resolve(path));
+			}
+			it.remove();
+			pruned++;
+		}
+
+		return pruned;
+	}
+
+	public void save() throws IOException {
+		JsonObject families = new JsonObject();
+		for (Map.Entry<String, Entry> family : entries.entrySet()) {
+			JsonObject obj = new JsonObject();
+			obj.addProperty("hash", family.getValue().hash);
+			JsonArray files = new JsonArray();
+			family.getValue().files.forEach(files::add);
+			obj.add("files", files);
+			families.add(family.getKey(), obj);
+		}
+
+		JsonObject json = new JsonObject();
+		json.add("families", families);
+
+		Files.createDirectories(root);
+		try (Writer writer = Files.newBufferedWriter(root.resolve(FILE_NAME), StandardCharsets.UTF_8)) {
+			GSON.toJson(json, writer);
+		}
+	}
+
+	private record Entry(String hash, List<String> files) {}
+}
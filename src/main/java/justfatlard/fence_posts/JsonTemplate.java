@@ -0,0 +1,102 @@
+package justfatlard.fence_posts;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled JSON document with string slots.
+ * The document is serialized once with placeholder values and split into literal byte segments,
+ * so rendering only copies those segments and the slot values into a single exactly-sized array.
+ * Output is byte-for-byte what the compiling Gson instance would produce for the filled-in tree.
+ */
+final class JsonTemplate {
+	private static final Pattern SLOT = Pattern.compile("\\{\\{(\\d+)}}");
+
+	private final Gson gson;
+	private final byte[][] literals;
+	private final int[] slots;
+	private final int literalLength;
+
+	private JsonTemplate(Gson gson, byte[][] literals, int[] slots) {
+		this.gson = gson;
+		this.literals = literals;
+		this.slots = slots;
+
+		int length = 0;
+		for (byte[] literal : literals) length += literal.length;
+		this.literalLength = length;
+	}
+
+	/**
+	 * Placeholder for slot {@code index}, to be used as (part of) a string value in the compiled tree.
+	 */
+	static String slot(int index) {
+		return "{{" + index + "}}";
+	}
+
+	static JsonTemplate compile(Gson gson, JsonObject json) {
+		String text = gson.toJson(json);
+		List<byte[]> literals = new ArrayList<>();
+		List<Integer> slots = new ArrayList<>();
+
+		Matcher matcher = SLOT.matcher(text);
+		int start = 0;
+		while (matcher.find()) {
+			literals.add(text.substring(start, matcher.start()).getBytes(StandardCharsets.UTF_8));
+			slots.add(Integer.parseInt(matcher.group(1)));
+			start = matcher.end();
+		}
+		literals.add(text.substring(start).getBytes(StandardCharsets.UTF_8));
+
+		return new JsonTemplate(gson, literals.toArray(new byte[0][]), slots.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	byte[] render(String... values) {
+		// Encode each slot once, most values are plain ASCII identifiers and need no escaping
+		byte[][] encoded = new byte[values.length][];
+		int length = literalLength;
+		for (int slot : slots) {
+			if (encoded[slot] == null) encoded[slot] = encode(values[slot]);
+			length += encoded[slot].length;
+		}
+
+		byte[] out = new byte[length];
+		int pos = 0;
+		for (int i = 0; i < slots.length; i++) {
+			System.arraycopy(literals[i], 0, out, pos, literals[i].length);
+			pos += literals[i].length;
+			byte[] value = encoded[slots[i]];
+			System.arraycopy(value, 0, out, pos, value.length);
+			pos += value.length;
+		}
+		byte[] last = literals[slots.length];
+		System.arraycopy(last, 0, out, pos, last.length);
+
+		return out;
+	}
+
+	private byte[] encode(String value) {
+		byte[] bytes = new byte[value.length()];
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (needsEscape(c)) {
+				// Let Gson escape it exactly as it would inside the full tree, minus the quotes
+				String escaped = gson.toJson(value);
+				return escaped.substring(1, escaped.length() - 1).getBytes(StandardCharsets.UTF_8);
+			}
+			bytes[i] = (byte) c;
+		}
+		return bytes;
+	}
+
+	private static boolean needsEscape(char c) {
+		// Non-ASCII, control characters and JSON specials; HTML escaping is off for every template Gson
+		return c < 0x20 || c > 0x7e || c == '"' || c == '\\';
+	}
+}
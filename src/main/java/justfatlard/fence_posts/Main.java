@@ -4,8 +4,6 @@ import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.itemgroup.v1.FabricItemGroup;
 import net.minecraft.block.AbstractBlock;
 import net.minecraft.block.Block;
-import net.minecraft.block.FenceBlock;
-import net.minecraft.block.WallBlock;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemGroup;
@@ -17,142 +15,191 @@ import net.minecraft.registry.RegistryKeys;
 import net.minecraft.sound.BlockSoundGroup;
 import net.minecraft.text.Text;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Main implements ModInitializer {
 	public static final String MOD_ID = "fence-posts";
 
-	// Track registered blocks for item group
-	private static final List<Block> FENCE_POSTS = new ArrayList<>();
-	private static final List<Block> FENCE_POST_SLABS = new ArrayList<>();
-	private static final List<Block> WALL_POSTS = new ArrayList<>();
-	private static final List<Block> WALL_POST_SLABS = new ArrayList<>();
+	// Registration state, only written while holding LOCK
+	private static final Object LOCK = new Object();
+	private static final AppendOnlyList<Block> FENCE_POSTS = new AppendOnlyList<>();
+	private static final AppendOnlyList<Block> FENCE_POST_SLABS = new AppendOnlyList<>();
+	private static final AppendOnlyList<Block> WALL_POSTS = new AppendOnlyList<>();
+	private static final AppendOnlyList<Block> WALL_POST_SLABS = new AppendOnlyList<>();
+	private static final Map<Identifier, PostFamily> PENDING_SOURCES = new HashMap<>();
+
+	// Registered post names and families by each of their blocks and items, read without locking.
+	// Both only grow (a family is replaced once when its source is linked) and only hold complete families.
+	private static final Set<String> REGISTERED_POSTS = ConcurrentHashMap.newKeySet();
+	private static final Map<Object, PostFamily> FAMILIES = new ConcurrentHashMap<>();
+
+	// Snapshots of the post lists for readers, republished after each registration call without copying
+	private static volatile Posts posts = Posts.EMPTY;
+
+	// Creative tab contents and icon, built on first use and rebuilt only after new posts are registered.
+	// The stacks are shared by every rebuild of the tab, the creative screen copies them before handing them out.
+	private static volatile List<ItemStack> itemGroupEntries;
+	private static ItemStack itemGroupIcon = ItemStack.EMPTY;
+
+	// Public API for other mods to access registered posts, safe from any thread.
+	// Lists are immutable snapshots that only ever contain complete families (a post and its slab).
+	public static List<Block> getFencePosts() { return posts.fencePosts(); }
+	public static List<Block> getFencePostSlabs() { return posts.fencePostSlabs(); }
+	public static List<Block> getWallPosts() { return posts.wallPosts(); }
+	public static List<Block> getWallPostSlabs() { return posts.wallPostSlabs(); }
+	public static boolean isRegistered(String postName) { return REGISTERED_POSTS.contains(postName); }
 
-	// Track registered post names to avoid duplicates
-	private static final Set<String> registeredPosts = new HashSet<>();
+	/**
+	 * Public API: Find the post family of a source fence or wall, a post or a post slab, without allocating.
+	 *
+	 * @return The family, or null if the block is not part of one
+	 */
+	public static @Nullable PostFamily getFamily(Block block) { return FAMILIES.get(block); }
+
+	/**
+	 * Public API: Find the post family of a post or post slab item, without allocating.
+	 *
+	 * @return The family, or null if the item is not part of one
+	 */
+	public static @Nullable PostFamily getFamily(Item item) { return FAMILIES.get(item); }
 
-	// Public API for other mods to access registered posts
-	public static List<Block> getFencePosts() { return Collections.unmodifiableList(FENCE_POSTS); }
-	public static List<Block> getFencePostSlabs() { return Collections.unmodifiableList(FENCE_POST_SLABS); }
-	public static List<Block> getWallPosts() { return Collections.unmodifiableList(WALL_POSTS); }
-	public static List<Block> getWallPostSlabs() { return Collections.unmodifiableList(WALL_POST_SLABS); }
+	// Public API for other mods to access every fence and wall in the registry
+	public static List<RegistryIndex.Entry> getIndexedFences() { return RegistryIndex.get().getFences(); }
+	public static List<RegistryIndex.Entry> getIndexedWalls() { return RegistryIndex.get().getWalls(); }
+
+	// Number of post families registered (each is a post and a slab)
+	public static int getFamilyCount() { return REGISTERED_POSTS.size(); }
 
 	@Override
 	public void onInitialize() {
-		// Register fence posts for all vanilla fence types
-		registerFencePost("oak", BlockSoundGroup.WOOD, true);
-		registerFencePost("spruce", BlockSoundGroup.WOOD, true);
-		registerFencePost("birch", BlockSoundGroup.WOOD, true);
-		registerFencePost("jungle", BlockSoundGroup.WOOD, true);
-		registerFencePost("acacia", BlockSoundGroup.WOOD, true);
-		registerFencePost("dark_oak", BlockSoundGroup.WOOD, true);
-		registerFencePost("mangrove", BlockSoundGroup.WOOD, true);
-		registerFencePost("cherry", BlockSoundGroup.CHERRY_WOOD, true);
-		registerFencePost("bamboo", BlockSoundGroup.BAMBOO_WOOD, true);
-		registerFencePost("crimson", BlockSoundGroup.NETHER_WOOD, false);
-		registerFencePost("warped", BlockSoundGroup.NETHER_WOOD, false);
-		registerFencePost("pale_oak", BlockSoundGroup.WOOD, true);
-		registerFencePost("nether_brick", BlockSoundGroup.NETHER_BRICKS, false);
-
-		// Register wall posts for all vanilla wall types
-		registerWallPost("cobblestone", BlockSoundGroup.STONE);
-		registerWallPost("mossy_cobblestone", BlockSoundGroup.STONE);
-		registerWallPost("stone_brick", BlockSoundGroup.STONE);
-		registerWallPost("mossy_stone_brick", BlockSoundGroup.STONE);
-		registerWallPost("brick", BlockSoundGroup.STONE);
-		registerWallPost("mud_brick", BlockSoundGroup.MUD_BRICKS);
-		registerWallPost("sandstone", BlockSoundGroup.STONE);
-		registerWallPost("red_sandstone", BlockSoundGroup.STONE);
-		registerWallPost("granite", BlockSoundGroup.STONE);
-		registerWallPost("diorite", BlockSoundGroup.STONE);
-		registerWallPost("andesite", BlockSoundGroup.STONE);
-		registerWallPost("prismarine", BlockSoundGroup.STONE);
-		registerWallPost("nether_brick", BlockSoundGroup.NETHER_BRICKS);
-		registerWallPost("red_nether_brick", BlockSoundGroup.NETHER_BRICKS);
-		registerWallPost("end_stone_brick", BlockSoundGroup.STONE);
-		registerWallPost("blackstone", BlockSoundGroup.STONE);
-		registerWallPost("polished_blackstone", BlockSoundGroup.STONE);
-		registerWallPost("polished_blackstone_brick", BlockSoundGroup.STONE);
-		registerWallPost("cobbled_deepslate", BlockSoundGroup.DEEPSLATE);
-		registerWallPost("polished_deepslate", BlockSoundGroup.POLISHED_DEEPSLATE);
-		registerWallPost("deepslate_brick", BlockSoundGroup.DEEPSLATE_BRICKS);
-		registerWallPost("deepslate_tile", BlockSoundGroup.DEEPSLATE_TILES);
-		registerWallPost("tuff", BlockSoundGroup.TUFF);
-		registerWallPost("polished_tuff", BlockSoundGroup.POLISHED_TUFF);
-		registerWallPost("tuff_brick", BlockSoundGroup.TUFF_BRICKS);
+		// Start classifying fences and walls as they are registered
+		RegistryIndex.subscribe();
+
+		// Register posts for every declared family, starting with the bundled vanilla ones
+		long definitionsStart = System.nanoTime();
+		List<PostSpec> definitions = PostDefinitions.load();
+		RegistrationResult families = registerDefinitions(definitions);
+		System.out.println("[" + MOD_ID + "] Registered " + families.registered().size() + " of " + definitions.size() +
+			" post definitions from " + PostDefinitions.getFilesRead() + " files in " +
+			String.format("%.1f", (System.nanoTime() - definitionsStart) / 1_000_000.0) + " ms");
 
 		// Register item group
 		ItemGroup postGroup = FabricItemGroup.builder()
 			.displayName(Text.literal("Fence & Wall Posts"))
-			.icon(() -> FENCE_POSTS.isEmpty() ? ItemStack.EMPTY : new ItemStack(FENCE_POSTS.get(0)))
-			.entries((context, entries) -> {
-				// Add fence posts and slabs interleaved
-				for (int i = 0; i < FENCE_POSTS.size(); i++) {
-					entries.add(new ItemStack(FENCE_POSTS.get(i)));
-					if (i < FENCE_POST_SLABS.size()) {
-						entries.add(new ItemStack(FENCE_POST_SLABS.get(i)));
-					}
-				}
-				// Add wall posts and slabs interleaved
-				for (int i = 0; i < WALL_POSTS.size(); i++) {
-					entries.add(new ItemStack(WALL_POSTS.get(i)));
-					if (i < WALL_POST_SLABS.size()) {
-						entries.add(new ItemStack(WALL_POST_SLABS.get(i)));
-					}
-				}
-			})
+			.icon(Main::getItemGroupIcon)
+			.entries((context, entries) -> entries.addAll(getItemGroupEntries()))
 			.build();
 
 		Registry.register(Registries.ITEM_GROUP, Identifier.of(MOD_ID, "posts"), postGroup);
 
+		// One recipe converts fences and walls to posts and posts to slabs for every family
+		PostConversionRecipe.register();
+
 		// Scan for modded fences and walls
+		long discoveryStart = System.nanoTime();
 		scanForModdedBlocks();
+		PostMetrics.recordDiscovery(System.nanoTime() - discoveryStart);
+
+		// Diagnostics
+		PostTickStats.register();
+		PostCommands.register();
 
-		int total = FENCE_POSTS.size() + FENCE_POST_SLABS.size() + WALL_POSTS.size() + WALL_POST_SLABS.size();
+		PostMetrics.Snapshot metrics = PostMetrics.snapshot();
+		int total = metrics.fencePosts() + metrics.fencePostSlabs() + metrics.wallPosts() + metrics.wallPostSlabs();
 		System.out.println("[" + MOD_ID + "] Registered " + total + " blocks (" +
-			FENCE_POSTS.size() + " fence posts, " + FENCE_POST_SLABS.size() + " fence post slabs, " +
-			WALL_POSTS.size() + " wall posts, " + WALL_POST_SLABS.size() + " wall post slabs)");
+			metrics.fencePosts() + " fence posts, " + metrics.fencePostSlabs() + " fence post slabs, " +
+			metrics.wallPosts() + " wall posts, " + metrics.wallPostSlabs() + " wall post slabs; registration " +
+			String.format("%.1f", metrics.registrationMillis()) + " ms; registry scan " +
+			String.format("%.1f", metrics.registryIndexMillis()) + " ms; deduplicated " +
+			metrics.modelsDeduplicated() + " models, " + metrics.variantsDeduplicated() + " blockstate variants)");
 	}
 
 	/**
-	 * Scan the registry for modded fences and walls.
-	 * Note: This finds blocks registered before this mod initializes.
-	 * For full modded support, mods should use the API methods below.
+	 * Register declared families, generating in-memory resources for non-vanilla ones.
 	 */
-	private void scanForModdedBlocks() {
-		int moddedFences = 0;
-		int moddedWalls = 0;
+	private static RegistrationResult registerDefinitions(List<PostSpec> specs) {
+		RegistrationResult result = registerPosts(specs);
+
+		// Vanilla families ship with resources made by the data generator
+		List<PostSpec> generated = new ArrayList<>();
+		for (RegistrationResult.Registered family : result.registered()) {
+			if (!family.spec().isVanilla()) generated.add(family.spec());
+		}
+		if (!generated.isEmpty()) {
+			RuntimeResourceGenerator.generateAll(GeneratedResourcePack.register("definitions"), generated);
+		}
+
+		for (RegistrationResult.Skipped skipped : result.skipped()) {
+			if (skipped.reason() == RegistrationResult.Reason.INVALID) {
+				System.out.println("[" + MOD_ID + "] Skipping invalid post definition: " + skipped.spec());
+			}
+		}
+
+		return result;
+	}
+
+	private static ItemStack getItemGroupIcon() {
+		List<Block> fencePosts = getFencePosts();
+		if (itemGroupIcon.isEmpty() && !fencePosts.isEmpty()) {
+			itemGroupIcon = new ItemStack(fencePosts.get(0));
+		}
+		return itemGroupIcon;
+	}
 
-		for (Block block : Registries.BLOCK) {
-			Identifier id = Registries.BLOCK.getId(block);
+	private static List<ItemStack> getItemGroupEntries() {
+		List<ItemStack> entries = itemGroupEntries;
+		if (entries != null) return entries;
 
-			// Skip vanilla blocks (already registered)
-			if ("minecraft".equals(id.getNamespace())) continue;
+		Posts current = posts;
+		entries = new ArrayList<>(2 * (current.fencePosts().size() + current.wallPosts().size()));
+		// Add fence posts and slabs interleaved
+		for (int i = 0; i < current.fencePosts().size(); i++) {
+			entries.add(new ItemStack(current.fencePosts().get(i)));
+			entries.add(new ItemStack(current.fencePostSlabs().get(i)));
+		}
+		// Add wall posts and slabs interleaved
+		for (int i = 0; i < current.wallPosts().size(); i++) {
+			entries.add(new ItemStack(current.wallPosts().get(i)));
+			entries.add(new ItemStack(current.wallPostSlabs().get(i)));
+		}
 
-			if (block instanceof FenceBlock) {
-				String baseName = id.getPath().replace("_fence", "");
-				String postName = baseName + "_fence_post";
+		entries = Collections.unmodifiableList(entries);
+		itemGroupEntries = entries;
+		return entries;
+	}
 
-				// Skip if already registered
-				if (registeredPosts.contains(postName)) continue;
+	/**
+	 * Report modded fences and walls without posts.
+	 * Note: This only reports blocks registered before this mod initializes. Later blocks are still
+	 * indexed, and get posts automatically with -Dfence-posts.autoRegister=true; otherwise mods should
+	 * use the API methods below.
+	 */
+	private void scanForModdedBlocks() {
+		int moddedFences = 0;
+		int moddedWalls = 0;
+		RegistryIndex index = RegistryIndex.get();
 
-				// Log discovered modded fence (resources would need to be generated)
-				System.out.println("[" + MOD_ID + "] Discovered modded fence: " + id +
-					" (post support requires resource pack)");
-				moddedFences++;
-			} else if (block instanceof WallBlock) {
-				String baseName = id.getPath().replace("_wall", "");
-				String postName = baseName + "_wall_post";
+		for (RegistryIndex.Entry fence : index.getFences()) {
+			// Skip vanilla blocks (already registered) and fences that already have posts
+			if (fence.isVanilla() || isRegistered(fence.postName())) continue;
 
-				// Skip if already registered
-				if (registeredPosts.contains(postName)) continue;
+			// Log discovered modded fence (resources would need to be generated)
+			System.out.println("[" + MOD_ID + "] Discovered modded fence: " + fence.id() +
+				" (post support requires resource pack)");
+			moddedFences++;
+		}
 
-				// Log discovered modded wall (resources would need to be generated)
-				System.out.println("[" + MOD_ID + "] Discovered modded wall: " + id +
-					" (post support requires resource pack)");
-				moddedWalls++;
-			}
+		for (RegistryIndex.Entry wall : index.getWalls()) {
+			// Skip vanilla blocks (already registered) and walls that already have posts
+			if (wall.isVanilla() || isRegistered(wall.postName())) continue;
+
+			// Log discovered modded wall (resources would need to be generated)
+			System.out.println("[" + MOD_ID + "] Discovered modded wall: " + wall.id() +
+				" (post support requires resource pack)");
+			moddedWalls++;
 		}
 
 		if (moddedFences > 0 || moddedWalls > 0) {
@@ -168,51 +215,38 @@ public class Main implements ModInitializer {
 	 * @param baseName The base name (e.g., "oak" for "oak_fence_post")
 	 * @param soundGroup The sound group to use
 	 * @param burnable Whether the post can burn
-	 * @return The registered FencePost block, or null if already registered
+	 * @return The registered FencePost block, or null if already registered or the arguments don't make a valid family
 	 */
 	public static FencePost registerFencePost(String baseName, BlockSoundGroup soundGroup, boolean burnable) {
-		String postName = baseName + "_fence_post";
-		String slabName = baseName + "_fence_post_slab";
-
-		// Skip if already registered
-		if (registeredPosts.contains(postName)) {
-			return null;
-		}
-		registeredPosts.add(postName);
-
-		// Full post
-		RegistryKey<Block> postBlockKey = RegistryKey.of(RegistryKeys.BLOCK, Identifier.of(MOD_ID, postName));
-		AbstractBlock.Settings postSettings = AbstractBlock.Settings.create()
-			.registryKey(postBlockKey)
-			.strength(2.0f, 3.0f)
-			.sounds(soundGroup);
-		if (burnable) postSettings = postSettings.burnable();
-
-		FencePost post = new FencePost(postSettings);
-		Registry.register(Registries.BLOCK, postBlockKey.getValue(), post);
-
-		RegistryKey<Item> postItemKey = RegistryKey.of(RegistryKeys.ITEM, Identifier.of(MOD_ID, postName));
-		Registry.register(Registries.ITEM, postItemKey.getValue(),
-			new BlockItem(post, new Item.Settings().registryKey(postItemKey)));
-		FENCE_POSTS.add(post);
+		return registerFencePost("minecraft", baseName, soundGroup, burnable);
+	}
 
-		// Slab
-		RegistryKey<Block> slabBlockKey = RegistryKey.of(RegistryKeys.BLOCK, Identifier.of(MOD_ID, slabName));
-		AbstractBlock.Settings slabSettings = AbstractBlock.Settings.create()
-			.registryKey(slabBlockKey)
-			.strength(2.0f, 3.0f)
-			.sounds(soundGroup);
-		if (burnable) slabSettings = slabSettings.burnable();
+	/**
+	 * Public API: Register a fence post for a fence from another namespace, linked to namespace:baseName_fence.
+	 * Resources for the post aren't bundled; generate them with RuntimeResourceGenerator.
+	 *
+	 * @param namespace The fence's namespace (e.g., "mymod" for "mymod:maple_fence")
+	 * @param baseName The base name (e.g., "maple" for "maple_fence_post")
+	 * @param soundGroup The sound group to use
+	 * @param burnable Whether the post can burn
+	 * @return The registered FencePost block, or null if already registered or the arguments don't make a valid family
+	 */
+	public static FencePost registerFencePost(String namespace, String baseName, BlockSoundGroup soundGroup, boolean burnable) {
+		PostSpec spec = PostSpec.fence(namespace, baseName, soundGroup, burnable);
 
-		FencePostSlab slab = new FencePostSlab(slabSettings);
-		Registry.register(Registries.BLOCK, slabBlockKey.getValue(), slab);
+		Identifier sourceId = validate(spec);
+		if (sourceId == null) return null;
 
-		RegistryKey<Item> slabItemKey = RegistryKey.of(RegistryKeys.ITEM, Identifier.of(MOD_ID, slabName));
-		Registry.register(Registries.ITEM, slabItemKey.getValue(),
-			new BlockItem(slab, new Item.Settings().registryKey(slabItemKey)));
-		FENCE_POST_SLABS.add(slab);
+		synchronized (LOCK) {
+			// Skip if already registered
+			if (REGISTERED_POSTS.contains(spec.postName())) {
+				return null;
+			}
 
-		return post;
+			FencePost post = (FencePost) registerFamily(spec, sourceId).post();
+			publish();
+			return post;
+		}
 	}
 
 	/**
@@ -221,48 +255,190 @@ public class Main implements ModInitializer {
 	 *
 	 * @param baseName The base name (e.g., "cobblestone" for "cobblestone_wall_post")
 	 * @param soundGroup The sound group to use
-	 * @return The registered WallPost block, or null if already registered
+	 * @return The registered WallPost block, or null if already registered or the arguments don't make a valid family
 	 */
 	public static WallPost registerWallPost(String baseName, BlockSoundGroup soundGroup) {
-		String postName = baseName + "_wall_post";
-		String slabName = baseName + "_wall_post_slab";
+		return registerWallPost("minecraft", baseName, soundGroup);
+	}
 
-		// Skip if already registered
-		if (registeredPosts.contains(postName)) {
-			return null;
+	/**
+	 * Public API: Register a wall post for a wall from another namespace, linked to namespace:baseName_wall.
+	 * Resources for the post aren't bundled; generate them with RuntimeResourceGenerator.
+	 *
+	 * @param namespace The wall's namespace (e.g., "mymod" for "mymod:slate_wall")
+	 * @param baseName The base name (e.g., "slate" for "slate_wall_post")
+	 * @param soundGroup The sound group to use
+	 * @return The registered WallPost block, or null if already registered or the arguments don't make a valid family
+	 */
+	public static WallPost registerWallPost(String namespace, String baseName, BlockSoundGroup soundGroup) {
+		PostSpec spec = PostSpec.wall(namespace, baseName, soundGroup);
+
+		Identifier sourceId = validate(spec);
+		if (sourceId == null) return null;
+
+		synchronized (LOCK) {
+			// Skip if already registered
+			if (REGISTERED_POSTS.contains(spec.postName())) {
+				return null;
+			}
+
+			WallPost post = (WallPost) registerFamily(spec, sourceId).post();
+			publish();
+			return post;
 		}
-		registeredPosts.add(postName);
+	}
 
-		// Full post
-		RegistryKey<Block> postBlockKey = RegistryKey.of(RegistryKeys.BLOCK, Identifier.of(MOD_ID, postName));
-		AbstractBlock.Settings postSettings = AbstractBlock.Settings.create()
-			.registryKey(postBlockKey)
-			.strength(2.0f, 3.0f)
-			.sounds(soundGroup);
+	/**
+	 * Public API: Register many post families at once.
+	 * Collections are sized for the whole batch up front, and families that are already registered or
+	 * are invalid (a missing field, or a namespace or base name that doesn't make a valid identifier) are skipped
+	 * instead of failing the batch. Specs are validated before anything is registered, so a skipped spec leaves nothing behind.
+	 *
+	 * @param specs The families to register, in creative tab order
+	 * @return The families registered and the ones skipped, with the reason
+	 */
+	public static RegistrationResult registerPosts(Collection<PostSpec> specs) {
+		synchronized (LOCK) {
+			int fences = 0;
+			for (PostSpec spec : specs) {
+				if (spec.kind() == PostSpec.Kind.FENCE) fences++;
+			}
+			int walls = specs.size() - fences;
+
+			FENCE_POSTS.ensureCapacity(FENCE_POSTS.size() + fences);
+			FENCE_POST_SLABS.ensureCapacity(FENCE_POST_SLABS.size() + fences);
+			WALL_POSTS.ensureCapacity(WALL_POSTS.size() + walls);
+			WALL_POST_SLABS.ensureCapacity(WALL_POST_SLABS.size() + walls);
+
+			List<RegistrationResult.Registered> registered = new ArrayList<>(specs.size());
+			List<RegistrationResult.Skipped> skipped = new ArrayList<>();
+
+			for (PostSpec spec : specs) {
+				Identifier sourceId = validate(spec);
+				if (sourceId == null) {
+					skipped.add(new RegistrationResult.Skipped(spec, RegistrationResult.Reason.INVALID));
+				} else if (REGISTERED_POSTS.contains(spec.postName())) {
+					skipped.add(new RegistrationResult.Skipped(spec, RegistrationResult.Reason.DUPLICATE));
+				} else {
+					registered.add(registerFamily(spec, sourceId));
+				}
+			}
+
+			publish();
+
+			return new RegistrationResult(Collections.unmodifiableList(registered), Collections.unmodifiableList(skipped));
+		}
+	}
 
-		WallPost post = new WallPost(postSettings);
-		Registry.register(Registries.BLOCK, postBlockKey.getValue(), post);
+	/**
+	 * Check everything registration derives from a spec, before anything is written to the registries.
+	 *
+	 * @return The id of the family's source fence or wall, or null if the spec can't be registered
+	 */
+	private static @Nullable Identifier validate(PostSpec spec) {
+		if (spec.kind() == null || spec.baseName() == null || spec.soundGroup() == null || spec.namespace() == null) return null;
+		if (!Identifier.isNamespaceValid(spec.namespace())) return null;
+
+		String sourcePath = spec.baseName() + (spec.kind() == PostSpec.Kind.FENCE ? "_fence" : "_wall");
+		if (!Identifier.isPathValid(sourcePath) || !Identifier.isPathValid(spec.postName() + "_slab")) return null;
+		return Identifier.of(spec.namespace(), sourcePath);
+	}
 
-		RegistryKey<Item> postItemKey = RegistryKey.of(RegistryKeys.ITEM, Identifier.of(MOD_ID, postName));
-		Registry.register(Registries.ITEM, postItemKey.getValue(),
-			new BlockItem(post, new Item.Settings().registryKey(postItemKey)));
-		WALL_POSTS.add(post);
+	// Caller holds LOCK and has validated the spec
+	private static RegistrationResult.Registered registerFamily(PostSpec spec, Identifier sourceId) {
+		boolean fence = spec.kind() == PostSpec.Kind.FENCE;
+		String postName = spec.postName();
+		String slabName = postName + "_slab";
+
+		PostEvents.FamilyRegistered event = new PostEvents.FamilyRegistered();
+		event.begin();
+		long start = System.nanoTime();
+
+		// Full post
+		Identifier postId = Identifier.of(MOD_ID, postName);
+		RegistryKey<Block> postBlockKey = RegistryKey.of(RegistryKeys.BLOCK, postId);
+		Block post = fence ? new FencePost(blockSettings(postBlockKey, spec)) : new WallPost(blockSettings(postBlockKey, spec));
+		Registry.register(Registries.BLOCK, postBlockKey, post);
+		registerItem(post, postId);
 
 		// Slab
-		RegistryKey<Block> slabBlockKey = RegistryKey.of(RegistryKeys.BLOCK, Identifier.of(MOD_ID, slabName));
-		AbstractBlock.Settings slabSettings = AbstractBlock.Settings.create()
-			.registryKey(slabBlockKey)
+		Identifier slabId = Identifier.of(MOD_ID, slabName);
+		RegistryKey<Block> slabBlockKey = RegistryKey.of(RegistryKeys.BLOCK, slabId);
+		Block slab = fence ? new FencePostSlab(blockSettings(slabBlockKey, spec)) : new WallPostSlab(blockSettings(slabBlockKey, spec));
+		Registry.register(Registries.BLOCK, slabBlockKey, slab);
+		registerItem(slab, slabId);
+
+		// Only track the family once both halves are registered, so the lists always pair up
+		(fence ? FENCE_POSTS : WALL_POSTS).add(post);
+		(fence ? FENCE_POST_SLABS : WALL_POST_SLABS).add(slab);
+		index(spec, sourceId, post, slab);
+
+		PostMetrics.recordRegistration(System.nanoTime() - start);
+		if (event.shouldCommit()) {
+			event.kind = fence ? "fence" : "wall";
+			event.baseName = spec.baseName();
+			event.commit();
+		}
+
+		return new RegistrationResult.Registered(spec, post, slab);
+	}
+
+	// Publish the post lists to readers, caller holds LOCK. Snapshots share the lists' arrays, so this doesn't copy.
+	private static void publish() {
+		posts = new Posts(FENCE_POSTS.snapshot(), FENCE_POST_SLABS.snapshot(), WALL_POSTS.snapshot(), WALL_POST_SLABS.snapshot());
+		itemGroupEntries = null;
+	}
+
+	// Settings carry the block's registry key, so every block needs its own
+	private static AbstractBlock.Settings blockSettings(RegistryKey<Block> key, PostSpec spec) {
+		AbstractBlock.Settings settings = AbstractBlock.Settings.create()
+			.registryKey(key)
 			.strength(2.0f, 3.0f)
-			.sounds(soundGroup);
+			.sounds(spec.soundGroup());
+		if (spec.kind() == PostSpec.Kind.FENCE && spec.burnable()) settings = settings.burnable();
+		return settings;
+	}
+
+	private static void registerItem(Block block, Identifier id) {
+		RegistryKey<Item> key = RegistryKey.of(RegistryKeys.ITEM, id);
+		Registry.register(Registries.ITEM, key, new BlockItem(block, new Item.Settings().registryKey(key)));
+	}
 
-		WallPostSlab slab = new WallPostSlab(slabSettings);
-		Registry.register(Registries.BLOCK, slabBlockKey.getValue(), slab);
+	// Add a family to the lookup table, linking its source now if it is registered or later when it is
+	private static void index(PostSpec spec, Identifier sourceId, Block post, Block slab) {
+		Block source = Registries.BLOCK.containsId(sourceId) ? Registries.BLOCK.get(sourceId) : null;
+		PostFamily family = new PostFamily(spec, sourceId, source, post, slab, post.asItem(), slab.asItem());
+
+		FAMILIES.put(post, family);
+		FAMILIES.put(slab, family);
+		FAMILIES.put(family.postItem(), family);
+		FAMILIES.put(family.slabItem(), family);
+		if (source != null) {
+			FAMILIES.put(source, family);
+		} else {
+			PENDING_SOURCES.put(sourceId, family);
+		}
+		REGISTERED_POSTS.add(spec.postName());
+	}
 
-		RegistryKey<Item> slabItemKey = RegistryKey.of(RegistryKeys.ITEM, Identifier.of(MOD_ID, slabName));
-		Registry.register(Registries.ITEM, slabItemKey.getValue(),
-			new BlockItem(slab, new Item.Settings().registryKey(slabItemKey)));
-		WALL_POST_SLABS.add(slab);
+	/**
+	 * Link a newly registered fence or wall to the family waiting for it, if any.
+	 */
+	static void linkSource(Identifier id, Block block) {
+		synchronized (LOCK) {
+			PostFamily family = PENDING_SOURCES.remove(id);
+			if (family == null) return;
+
+			PostFamily linked = family.withSource(block);
+			FAMILIES.put(block, linked);
+			FAMILIES.put(linked.post(), linked);
+			FAMILIES.put(linked.slab(), linked);
+			FAMILIES.put(linked.postItem(), linked);
+			FAMILIES.put(linked.slabItem(), linked);
+		}
+	}
 
-		return post;
+	private record Posts(List<Block> fencePosts, List<Block> fencePostSlabs, List<Block> wallPosts, List<Block> wallPostSlabs) {
+		static final Posts EMPTY = new Posts(List.of(), List.of(), List.of(), List.of());
 	}
 }
@@ -0,0 +1,118 @@
+package justfatlard.fence_posts;
+
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.command.CommandRegistryAccess;
+import net.minecraft.command.argument.BlockPosArgumentType;
+import net.minecraft.command.argument.BlockStateArgumentType;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.text.Text;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.List;
+
+/**
+ * Operator commands, under /fenceposts.
+ */
+final class PostCommands {
+	private static final int DEFAULT_STATS_TICKS = 200;
+
+	// Assumed shallow sizes with compressed oops, not measured; the heap figure is an order-of-magnitude estimate
+	private static final int BLOCK_BYTES = 160;
+	private static final int ITEM_BYTES = 96;
+	private static final int STATE_BYTES = 176;
+
+	private PostCommands() {}
+
+	static void register() {
+		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> dispatcher.register(
+			CommandManager.literal("fenceposts")
+				.requires(source -> source.hasPermissionLevel(2))
+				.then(CommandManager.literal("stats")
+					.executes(context -> stats(context.getSource(), DEFAULT_STATS_TICKS))
+					.then(CommandManager.argument("ticks", IntegerArgumentType.integer(1, PostTickStats.CAPACITY))
+						.executes(context -> stats(context.getSource(), IntegerArgumentType.getInteger(context, "ticks")))))
+				.then(CommandManager.literal("fill")
+					.then(fillShape("line", PostPlacer.Shape.LINE, registryAccess))
+					.then(fillShape("rect", PostPlacer.Shape.RECT, registryAccess))
+					.then(fillShape("perimeter", PostPlacer.Shape.PERIMETER, registryAccess)))
+		));
+	}
+
+	// fill <shape> <from> <to> <block>
+	private static LiteralArgumentBuilder<ServerCommandSource> fillShape(String name, PostPlacer.Shape shape, CommandRegistryAccess registryAccess) {
+		return CommandManager.literal(name)
+			.then(CommandManager.argument("from", BlockPosArgumentType.blockPos())
+				.then(CommandManager.argument("to", BlockPosArgumentType.blockPos())
+					.then(CommandManager.argument("block", BlockStateArgumentType.blockState(registryAccess))
+						.executes(context -> fill(context.getSource(), shape,
+							BlockPosArgumentType.getLoadedBlockPos(context, "from"),
+							BlockPosArgumentType.getLoadedBlockPos(context, "to"),
+							BlockStateArgumentType.getBlockState(context, "block").getBlockState())))));
+	}
+
+	private static int fill(ServerCommandSource source, PostPlacer.Shape shape, BlockPos from, BlockPos to, BlockState state) throws CommandSyntaxException {
+		// The corners were checked when parsed, the chunks between them may still be unloaded
+		if (!source.getWorld().isRegionLoaded(BlockPos.min(from, to), BlockPos.max(from, to))) {
+			throw BlockPosArgumentType.UNLOADED_EXCEPTION.create();
+		}
+
+		PostPlacer.Result result;
+		try {
+			result = PostPlacer.fill(source.getWorld(), shape, from, to, state);
+		} catch (IllegalArgumentException e) {
+			source.sendError(Text.literal(e.getMessage()));
+			return 0;
+		}
+
+		send(source, String.format("Placed %d blocks (%d positions occupied) in %.1f ms, %.0f blocks/s",
+			result.placed(), result.skipped(), result.nanos() / 1_000_000.0, result.blocksPerSecond()));
+		return result.placed();
+	}
+
+	private static int stats(ServerCommandSource source, int ticks) {
+		PostMetrics.Snapshot metrics = PostMetrics.snapshot();
+		PostTickStats.Window window = PostTickStats.sum(ticks);
+
+		int blocks = metrics.fencePosts() + metrics.fencePostSlabs() + metrics.wallPosts() + metrics.wallPostSlabs();
+		int states = countStates(Main.getFencePosts()) + countStates(Main.getWallPosts())
+			+ countStates(Main.getFencePostSlabs()) + countStates(Main.getWallPostSlabs());
+
+		// Every block has a block item
+		long heapBytes = (long) blocks * (BLOCK_BYTES + ITEM_BYTES) + (long) states * STATE_BYTES;
+
+		send(source, "Fence Posts: " + Main.getFamilyCount() + " families, " + blocks + " blocks, " +
+			blocks + " items, " + states + " blockstates");
+		send(source, metrics.fencePosts() + " fence posts, " + metrics.fencePostSlabs() + " fence post slabs, " +
+			metrics.wallPosts() + " wall posts, " + metrics.wallPostSlabs() + " wall post slabs");
+		send(source, String.format("Registration %.1f ms, registry scan %.1f ms, modded-block discovery %.1f ms",
+			metrics.registrationMillis(), metrics.registryIndexMillis(), metrics.discoveryMillis()));
+		send(source, String.format("Generated %d resource files (%.1f KiB) in %.1f ms; deduplication saved %d models and %d blockstate variants",
+			metrics.filesGenerated(), metrics.bytesGenerated() / 1024.0, metrics.generationMillis(),
+			metrics.modelsDeduplicated(), metrics.variantsDeduplicated()));
+		// Only generation into a directory goes through the cache
+		send(source, "Generation cache: " + metrics.cacheHits() + " hits, " + metrics.cacheMisses() + " misses");
+		send(source, String.format("Estimated heap for post blocks, items and states: ~%.1f KiB (fixed per-object sizes, not measured)", heapBytes / 1024.0));
+		send(source, "Last " + window.ticks() + " ticks: " + window.neighborUpdates() + " neighbor updates, " +
+			window.fluidTicksScheduled() + " fluid ticks scheduled, " + window.fluidTicksSuppressed() + " coalesced");
+
+		return blocks;
+	}
+
+	private static int countStates(List<Block> blocks) {
+		int states = 0;
+		for (Block block : blocks) {
+			states += block.getStateManager().getStates().size();
+		}
+		return states;
+	}
+
+	private static void send(ServerCommandSource source, String line) {
+		source.sendFeedback(() -> Text.literal(line), false);
+	}
+}
@@ -0,0 +1,114 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.block.Block;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.recipe.RecipeSerializer;
+import net.minecraft.recipe.SpecialCraftingRecipe;
+import net.minecraft.recipe.book.CraftingRecipeCategory;
+import net.minecraft.recipe.display.RecipeDisplay;
+import net.minecraft.recipe.display.ShapelessCraftingRecipeDisplay;
+import net.minecraft.recipe.display.SlotDisplay;
+import net.minecraft.recipe.input.CraftingRecipeInput;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.Registry;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.util.Identifier;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single crafting recipe for every post family: one fence or wall makes two posts, one post makes two post slabs.
+ * The output is looked up from the family index by input item, so matching costs the same however many
+ * families are registered, and families registered later (e.g. auto-registered modded posts) need no recipe files.
+ * Declared once in data/fence-posts/recipe/post_conversion.json. Each conversion is still listed as its own
+ * shapeless display for the recipe book and recipe viewers.
+ */
+public class PostConversionRecipe extends SpecialCraftingRecipe {
+	public static final RecipeSerializer<PostConversionRecipe> SERIALIZER = new SpecialRecipeSerializer<>(PostConversionRecipe::new);
+
+	private static final int OUTPUT_COUNT = 2;
+
+	public PostConversionRecipe(CraftingRecipeCategory category) {
+		super(category);
+	}
+
+	public static void register() {
+		Registry.register(Registries.RECIPE_SERIALIZER, Identifier.of(Main.MOD_ID, "post_conversion"), SERIALIZER);
+	}
+
+	@Override
+	public boolean matches(CraftingRecipeInput input, World world) {
+		return getOutput(input) != null;
+	}
+
+	@Override
+	public ItemStack craft(CraftingRecipeInput input, RegistryWrapper.WrapperLookup registries) {
+		Item output = getOutput(input);
+		return output != null ? new ItemStack(output, OUTPUT_COUNT) : ItemStack.EMPTY;
+	}
+
+	/**
+	 * The item a grid holding a single source block or post converts to.
+	 *
+	 * @return The output item, or null if the grid doesn't hold exactly one convertible item
+	 */
+	static @Nullable Item getOutput(CraftingRecipeInput input) {
+		if (input.getStackCount() != 1) return null;
+
+		ItemStack stack = ItemStack.EMPTY;
+		for (int i = 0; i < input.size() && stack.isEmpty(); i++) {
+			stack = input.getStackInSlot(i);
+		}
+
+		// Posts are indexed by item, fences and walls by block
+		Item item = stack.getItem();
+		PostFamily family = Main.getFamily(item);
+		if (family != null) return item == family.postItem() ? family.slabItem() : null;
+
+		// Anything else has to be a family's source, matched by id so it doesn't depend on the source's item field
+		Block block = Block.getBlockFromItem(item);
+		family = Main.getFamily(block);
+		if (family != null && family.sourceId().equals(Registries.BLOCK.getId(block))) return family.postItem();
+		return null;
+	}
+
+	/**
+	 * One shapeless display per conversion, so the recipe book and recipe viewers can show them.
+	 * Built on each call; the recipe manager only asks when recipes are loaded.
+	 */
+	@Override
+	public List<RecipeDisplay> getDisplays() {
+		SlotDisplay craftingTable = new SlotDisplay.ItemSlotDisplay(Items.CRAFTING_TABLE);
+		List<RecipeDisplay> displays = new ArrayList<>();
+		addDisplays(displays, Main.getFencePosts(), craftingTable);
+		addDisplays(displays, Main.getWallPosts(), craftingTable);
+		return displays;
+	}
+
+	private static void addDisplays(List<RecipeDisplay> displays, List<Block> posts, SlotDisplay craftingTable) {
+		for (Block post : posts) {
+			PostFamily family = Main.getFamily(post);
+			// Skip rather than fail the whole recipe sync over one post without a family
+			if (family == null) continue;
+			if (family.source() != null && family.source().asItem() != Items.AIR) {
+				displays.add(display(family.source().asItem(), family.postItem(), craftingTable));
+			}
+			displays.add(display(family.postItem(), family.slabItem(), craftingTable));
+		}
+	}
+
+	private static RecipeDisplay display(Item input, Item output, SlotDisplay craftingTable) {
+		return new ShapelessCraftingRecipeDisplay(List.of(new SlotDisplay.ItemSlotDisplay(input)),
+			new SlotDisplay.StackSlotDisplay(new ItemStack(output, OUTPUT_COUNT)), craftingTable);
+	}
+
+	@Override
+	public RecipeSerializer<PostConversionRecipe> getSerializer() {
+		return SERIALIZER;
+	}
+}
@@ -0,0 +1,87 @@
+package justfatlard.fence_posts;
+
+import com.google.common.hash.Hashing;
+import net.fabricmc.fabric.api.datagen.v1.DataGeneratorEntrypoint;
+import net.fabricmc.fabric.api.datagen.v1.FabricDataGenerator;
+import net.fabricmc.fabric.api.datagen.v1.FabricDataOutput;
+import net.fabricmc.fabric.api.datagen.v1.provider.FabricLanguageProvider;
+import net.minecraft.data.DataProvider;
+import net.minecraft.data.DataWriter;
+import net.minecraft.registry.RegistryWrapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Data generator for the bundled (vanilla) post families, run with ./gradlew runDatagen.
+ * Resources come from the same code paths as {@link RuntimeResourceGenerator} and are written to src/main/generated.
+ * The data writer skips files whose content hasn't changed, so only changed families touch the output.
+ */
+public class PostDataGenerator implements DataGeneratorEntrypoint {
+	@Override
+	public void onInitializeDataGenerator(FabricDataGenerator generator) {
+		FabricDataGenerator.Pack pack = generator.createPack();
+		pack.addProvider(ResourceProvider::new);
+		pack.addProvider(LanguageProvider::new);
+	}
+
+	/**
+	 * Models, blockstates and items for every bundled family.
+	 */
+	private static class ResourceProvider implements DataProvider {
+		private final Path root;
+
+		ResourceProvider(FabricDataOutput output) {
+			this.root = output.getPath();
+		}
+
+		@Override
+		@SuppressWarnings("deprecation")
+		public CompletableFuture<?> run(DataWriter writer) {
+			return CompletableFuture.runAsync(() -> {
+				try {
+					RuntimeResourceGenerator.generateAll(
+						(path, data) -> writer.write(root.resolve(path), data, Hashing.sha1().hashBytes(data)),
+						PostDefinitions.loadBundled());
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		}
+
+		@Override
+		public String getName() {
+			return "Fence post resources";
+		}
+	}
+
+	/**
+	 * English names, derived from the post names (e.g. "Oak Fence Post Slab").
+	 */
+	private static class LanguageProvider extends FabricLanguageProvider {
+		LanguageProvider(FabricDataOutput output, CompletableFuture<RegistryWrapper.WrapperLookup> registryLookup) {
+			super(output, registryLookup);
+		}
+
+		@Override
+		public void generateTranslations(RegistryWrapper.WrapperLookup registryLookup, TranslationBuilder builder) {
+			List<PostSpec> specs = PostDefinitions.loadBundled();
+			for (PostSpec spec : specs) {
+				builder.add("block." + Main.MOD_ID + "." + spec.postName(), titleCase(spec.postName()));
+				builder.add("block." + Main.MOD_ID + "." + spec.postName() + "_slab", titleCase(spec.postName() + "_slab"));
+			}
+		}
+
+		private static String titleCase(String name) {
+			StringBuilder title = new StringBuilder(name.length());
+			for (String word : name.split("_")) {
+				if (!title.isEmpty()) title.append(' ');
+				title.append(Character.toUpperCase(word.charAt(0))).append(word, 1, word.length());
+			}
+			return title.toString();
+		}
+	}
+}
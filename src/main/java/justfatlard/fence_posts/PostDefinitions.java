@@ -0,0 +1,170 @@
+package justfatlard.fence_posts;
+
+import com.google.gson.stream.JsonReader;
+import net.fabricmc.loader.api.FabricLoader;
+import net.fabricmc.loader.api.ModContainer;
+import net.minecraft.sound.BlockSoundGroup;
+import net.minecraft.util.Identifier;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Post families declared in JSON, so packs can add variants without code.
+ * Definitions are read from fence-posts/posts.json in this mod (the vanilla families), then in every
+ * other mod that ships one, then from config/fence-posts/posts.json. Files are read with a streaming
+ * parser in a single pass. The first definition of a post name wins.
+ *
+ * <pre>
+ * {
+ * 	"posts": [
+ * 		{ "kind": "fence", "base_name": "oak", "sound_group": "wood", "burnable": true },
+ * 		{ "kind": "wall", "base_name": "slate", "sound_group": "stone", "namespace": "mymod", "texture": "mymod:block/slate" }
+ * 	]
+ * }
+ * </pre>
+ */
+public final class PostDefinitions {
+	public static final String PATH = "fence-posts/posts.json";
+
+	// Sound groups by definition name; BlockSoundGroup has no registry to look them up in
+	private static final Map<String, BlockSoundGroup> SOUND_GROUPS = Map.ofEntries(
+		Map.entry("wood", BlockSoundGroup.WOOD),
+		Map.entry("cherry_wood", BlockSoundGroup.CHERRY_WOOD),
+		Map.entry("bamboo_wood", BlockSoundGroup.BAMBOO_WOOD),
+		Map.entry("nether_wood", BlockSoundGroup.NETHER_WOOD),
+		Map.entry("stone", BlockSoundGroup.STONE),
+		Map.entry("nether_bricks", BlockSoundGroup.NETHER_BRICKS),
+		Map.entry("mud_bricks", BlockSoundGroup.MUD_BRICKS),
+		Map.entry("deepslate", BlockSoundGroup.DEEPSLATE),
+		Map.entry("polished_deepslate", BlockSoundGroup.POLISHED_DEEPSLATE),
+		Map.entry("deepslate_bricks", BlockSoundGroup.DEEPSLATE_BRICKS),
+		Map.entry("deepslate_tiles", BlockSoundGroup.DEEPSLATE_TILES),
+		Map.entry("tuff", BlockSoundGroup.TUFF),
+		Map.entry("polished_tuff", BlockSoundGroup.POLISHED_TUFF),
+		Map.entry("tuff_bricks", BlockSoundGroup.TUFF_BRICKS),
+		Map.entry("basalt", BlockSoundGroup.BASALT),
+		Map.entry("calcite", BlockSoundGroup.CALCITE),
+		Map.entry("copper", BlockSoundGroup.COPPER),
+		Map.entry("metal", BlockSoundGroup.METAL)
+	);
+
+	private static int filesRead = 0;
+
+	private PostDefinitions() {}
+
+	/**
+	 * Read every definition file, skipping (and logging) unreadable files and invalid entries.
+	 */
+	public static List<PostSpec> load() {
+		FabricLoader loader = FabricLoader.getInstance();
+
+		// This mod first so the bundled vanilla families keep their order in the creative tab
+		List<PostSpec> specs = loadBundled();
+		for (ModContainer mod : loader.getAllMods()) {
+			if (!mod.getMetadata().getId().equals(Main.MOD_ID)) readMod(mod, specs);
+		}
+
+		Path config = loader.getConfigDir().resolve(PATH);
+		if (Files.isRegularFile(config)) read(config, config.toString(), specs);
+
+		return specs;
+	}
+
+	/**
+	 * Read only this mod's bundled definitions, the vanilla families.
+	 */
+	public static List<PostSpec> loadBundled() {
+		List<PostSpec> specs = new ArrayList<>();
+		FabricLoader.getInstance().getModContainer(Main.MOD_ID).ifPresent(mod -> readMod(mod, specs));
+		return specs;
+	}
+
+	/**
+	 * Number of definition files read so far.
+	 */
+	public static int getFilesRead() {
+		return filesRead;
+	}
+
+	private static void readMod(ModContainer mod, List<PostSpec> specs) {
+		Optional<Path> path = mod.findPath(PATH);
+		path.ifPresent(file -> read(file, mod.getMetadata().getId() + ":" + PATH, specs));
+	}
+
+	private static void read(Path file, String source, List<PostSpec> specs) {
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			read(reader, source, specs);
+			filesRead++;
+		} catch (IOException | IllegalStateException e) {
+			System.out.println("[" + Main.MOD_ID + "] Skipping unreadable post definitions " + source + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Parse a definition file, appending its valid entries once the whole file has parsed.
+	 * A file that fails partway adds nothing.
+	 */
+	static void read(Reader reader, String source, List<PostSpec> specs) throws IOException {
+		List<PostSpec> parsed = new ArrayList<>();
+		JsonReader json = new JsonReader(reader);
+		json.beginObject();
+		while (json.hasNext()) {
+			if (!json.nextName().equals("posts")) {
+				json.skipValue();
+				continue;
+			}
+
+			json.beginArray();
+			while (json.hasNext()) {
+				PostSpec spec = readSpec(json, source);
+				if (spec != null) parsed.add(spec);
+			}
+			json.endArray();
+		}
+		json.endObject();
+
+		specs.addAll(parsed);
+	}
+
+	private static PostSpec readSpec(JsonReader json, String source) throws IOException {
+		String kind = null;
+		String baseName = null;
+		String soundGroup = null;
+		boolean burnable = false;
+		String namespace = "minecraft";
+		String texture = null;
+
+		json.beginObject();
+		while (json.hasNext()) {
+			switch (json.nextName()) {
+				case "kind" -> kind = json.nextString();
+				case "base_name" -> baseName = json.nextString();
+				case "sound_group" -> soundGroup = json.nextString();
+				case "burnable" -> burnable = json.nextBoolean();
+				case "namespace" -> namespace = json.nextString();
+				case "texture" -> texture = json.nextString();
+				default -> json.skipValue();
+			}
+		}
+		json.endObject();
+
+		PostSpec.Kind parsedKind = "fence".equals(kind) ? PostSpec.Kind.FENCE : "wall".equals(kind) ? PostSpec.Kind.WALL : null;
+		BlockSoundGroup parsedSoundGroup = soundGroup == null ? BlockSoundGroup.STONE : SOUND_GROUPS.get(soundGroup);
+
+		if (parsedKind == null || baseName == null || baseName.isEmpty() || parsedSoundGroup == null || !Identifier.isNamespaceValid(namespace)) {
+			System.out.println("[" + Main.MOD_ID + "] Skipping invalid post definition in " + source +
+				" (kind " + kind + ", base_name " + baseName + ", sound_group " + soundGroup + ", namespace " + namespace + ")");
+			return null;
+		}
+
+		return new PostSpec(parsedKind, baseName, parsedSoundGroup, burnable, namespace, texture);
+	}
+}
@@ -0,0 +1,52 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.item.ItemStack;
+import net.minecraft.loot.LootTable;
+import net.minecraft.loot.context.LootContext;
+import net.minecraft.loot.context.LootContextParameters;
+import net.minecraft.loot.context.LootContextTypes;
+import net.minecraft.loot.context.LootWorldContext;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Drops for post blocks, computed directly instead of from a loot table per block.
+ * A post drops itself, a double slab drops two slabs, and blocks destroyed by a decaying explosion
+ * survive with the same 1 / radius chance as the vanilla survives_explosion condition.
+ * A loot table supplied by a datapack for the block's usual loot table id still takes precedence.
+ */
+final class PostDrops {
+	private PostDrops() {}
+
+	/**
+	 * @param count Number of the block's own item to drop
+	 * @param lootTable The block's loot table drops, used when a datapack provides one
+	 */
+	static List<ItemStack> getDrops(BlockState state, LootWorldContext.Builder builder, int count, Supplier<List<ItemStack>> lootTable) {
+		Block block = state.getBlock();
+		ServerWorld world = builder.getWorld();
+		Optional<RegistryKey<LootTable>> key = block.getLootTableKey();
+		if (key.isEmpty()) return List.of();
+
+		// Missing tables resolve to the shared empty table
+		if (world.getServer().getReloadableRegistries().getLootTable(key.get()) != LootTable.EMPTY) {
+			return lootTable.get();
+		}
+
+		Float radius = builder.getOptional(LootContextParameters.EXPLOSION_RADIUS);
+		if (radius != null) {
+			// Roll with the loot context's random, seeded from the table's random sequence like the table would be
+			LootWorldContext parameters = builder.add(LootContextParameters.BLOCK_STATE, state).build(LootContextTypes.BLOCK);
+			LootContext context = new LootContext.Builder(parameters).build(Optional.of(key.get().getValue()));
+			if (context.getRandom().nextFloat() > 1.0F / radius) return List.of();
+		}
+
+		return List.of(new ItemStack(block, count));
+	}
+}
@@ -0,0 +1,82 @@
+package justfatlard.fence_posts;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder events, recorded under the "Fence Posts" category.
+ * Start a recording with e.g. -XX:StartFlightRecording. Fluid tick events fire on every
+ * neighbor update of a waterlogged post, so they are disabled unless enabled in the recording settings.
+ */
+public final class PostEvents {
+	private static final String CATEGORY = "Fence Posts";
+
+	private PostEvents() {}
+
+	@Name("justfatlard.fence_posts.FamilyRegistered")
+	@Label("Post Family Registered")
+	@Category(CATEGORY)
+	@Description("Registration of a post, its slab and their block items")
+	public static final class FamilyRegistered extends Event {
+		@Label("Kind")
+		public String kind;
+
+		@Label("Base Name")
+		public String baseName;
+	}
+
+	@Name("justfatlard.fence_posts.RegistryScan")
+	@Label("Registry Scan")
+	@Category(CATEGORY)
+	@Description("Indexing the fences and walls already in the block registry")
+	public static final class RegistryScan extends Event {
+		@Label("Fences")
+		public int fences;
+
+		@Label("Walls")
+		public int walls;
+	}
+
+	@Name("justfatlard.fence_posts.FileGenerated")
+	@Label("Resource File Generated")
+	@Category(CATEGORY)
+	@Description("Writing a generated resource file; the event duration covers the write")
+	public static final class FileGenerated extends Event {
+		@Label("Path")
+		public String path;
+
+		@Label("Size")
+		@DataAmount
+		public long bytes;
+
+		@Label("Render Time")
+		@Timespan
+		public long renderTime;
+	}
+
+	@Name("justfatlard.fence_posts.FluidTick")
+	@Label("Post Fluid Tick")
+	@Category(CATEGORY)
+	@Description("Fluid tick requested by a waterlogged post on a neighbor update")
+	@Enabled(false)
+	public static final class FluidTick extends Event {
+		@Label("X")
+		public int x;
+
+		@Label("Y")
+		public int y;
+
+		@Label("Z")
+		public int z;
+
+		@Label("Scheduled")
+		@Description("False when coalescing skipped the tick")
+		public boolean scheduled;
+	}
+}
@@ -0,0 +1,20 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.block.Block;
+import net.minecraft.item.Item;
+import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A registered post family: the post, its slab, their items and the fence or wall they derive from.
+ * Look one up from any of its blocks or items with {@link Main#getFamily(Block)} and {@link Main#getFamily(Item)}.
+ *
+ * @param spec The declaration the family was registered from
+ * @param sourceId Id of the source fence or wall, from the spec's namespace and base name
+ * @param source The source fence or wall, or null if no block with that id has been registered
+ */
+public record PostFamily(PostSpec spec, Identifier sourceId, @Nullable Block source, Block post, Block slab, Item postItem, Item slabItem) {
+	PostFamily withSource(Block source) {
+		return new PostFamily(spec, sourceId, source, post, slab, postItem, slabItem);
+	}
+}
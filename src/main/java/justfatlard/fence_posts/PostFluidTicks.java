@@ -0,0 +1,63 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldView;
+import net.minecraft.world.tick.ScheduledTickView;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fluid tick scheduling for waterlogged posts on neighbor updates.
+ * When coalescing (the default, disable with -Dfence-posts.coalesceFluidTicks=false), a tick is only
+ * scheduled if the neighbor holds a different fluid state than the post and no water tick is already
+ * queued at the post, instead of on every neighbor update.
+ */
+public final class PostFluidTicks {
+	private static volatile boolean coalescing = !"false".equals(System.getProperty("fence-posts.coalesceFluidTicks"));
+
+	private static final LongAdder NEIGHBOR_UPDATES = new LongAdder();
+	private static final LongAdder SCHEDULED = new LongAdder();
+	private static final LongAdder SUPPRESSED = new LongAdder();
+
+	private PostFluidTicks() {}
+
+	public static boolean isCoalescing() { return coalescing; }
+	public static void setCoalescing(boolean enabled) { coalescing = enabled; }
+
+	public static long getNeighborUpdateCount() { return NEIGHBOR_UPDATES.sum(); }
+	public static long getScheduledCount() { return SCHEDULED.sum(); }
+	public static long getSuppressedCount() { return SUPPRESSED.sum(); }
+
+	static void onNeighborUpdate(BlockState state, WorldView world, ScheduledTickView tickView, BlockPos pos, BlockState neighborState) {
+		NEIGHBOR_UPDATES.increment();
+		if (!state.get(Properties.WATERLOGGED)) return;
+
+		if (coalescing) {
+			// Water can't spread into a neighbor that already holds the same fluid, and one queued tick is enough
+			if (neighborState.getFluidState() == state.getFluidState()
+				|| tickView.getFluidTickScheduler().isQueued(pos, Fluids.WATER)) {
+				SUPPRESSED.increment();
+				recordEvent(pos, false);
+				return;
+			}
+		}
+
+		tickView.scheduleFluidTick(pos, Fluids.WATER, Fluids.WATER.getTickRate(world));
+		SCHEDULED.increment();
+		recordEvent(pos, true);
+	}
+
+	private static void recordEvent(BlockPos pos, boolean scheduled) {
+		PostEvents.FluidTick event = new PostEvents.FluidTick();
+		if (!event.isEnabled()) return;
+
+		event.x = pos.getX();
+		event.y = pos.getY();
+		event.z = pos.getZ();
+		event.scheduled = scheduled;
+		event.commit();
+	}
+}
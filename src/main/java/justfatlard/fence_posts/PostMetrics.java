@@ -0,0 +1,89 @@
+package justfatlard.fence_posts;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process counters for registration, discovery, resource generation and fluid ticks.
+ * Read them together with {@link #snapshot()}.
+ */
+public final class PostMetrics {
+	private static final LongAdder FAMILIES_REGISTERED = new LongAdder();
+	private static final LongAdder REGISTRATION_NANOS = new LongAdder();
+	private static final LongAdder DISCOVERY_NANOS = new LongAdder();
+	private static final LongAdder FILES_GENERATED = new LongAdder();
+	private static final LongAdder BYTES_GENERATED = new LongAdder();
+	private static final LongAdder GENERATION_NANOS = new LongAdder();
+	private static final LongAdder MODELS_DEDUPLICATED = new LongAdder();
+	private static final LongAdder VARIANTS_DEDUPLICATED = new LongAdder();
+
+	private PostMetrics() {}
+
+	static void recordRegistration(long nanos) {
+		FAMILIES_REGISTERED.increment();
+		REGISTRATION_NANOS.add(nanos);
+	}
+
+	static void recordDiscovery(long nanos) {
+		DISCOVERY_NANOS.add(nanos);
+	}
+
+	static void recordFile(int bytes, long nanos) {
+		FILES_GENERATED.increment();
+		BYTES_GENERATED.add(bytes);
+		GENERATION_NANOS.add(nanos);
+	}
+
+	static void recordDeduplication(int models, int variants) {
+		MODELS_DEDUPLICATED.add(models);
+		VARIANTS_DEDUPLICATED.add(variants);
+	}
+
+	public static Snapshot snapshot() {
+		return new Snapshot(
+			Main.getFencePosts().size(),
+			Main.getFencePostSlabs().size(),
+			Main.getWallPosts().size(),
+			Main.getWallPostSlabs().size(),
+			FAMILIES_REGISTERED.sum(),
+			REGISTRATION_NANOS.sum() / 1_000_000.0,
+			RegistryIndex.get().getIndexMillis(),
+			DISCOVERY_NANOS.sum() / 1_000_000.0,
+			FILES_GENERATED.sum(),
+			BYTES_GENERATED.sum(),
+			GENERATION_NANOS.sum() / 1_000_000.0,
+			MODELS_DEDUPLICATED.sum(),
+			VARIANTS_DEDUPLICATED.sum(),
+			GenerationCache.getHits(),
+			GenerationCache.getMisses(),
+			PostFluidTicks.getNeighborUpdateCount(),
+			PostFluidTicks.getScheduledCount(),
+			PostFluidTicks.getSuppressedCount()
+		);
+	}
+
+	/**
+	 * Counters at one point in time. Times are in milliseconds; discovery is the modded-block report at startup
+	 * and generation time covers rendering and writing. Deduplicated counts are the model files and blockstate
+	 * variants that deduplicated output left out, compared to fully expanded output.
+	 */
+	public record Snapshot(
+		int fencePosts,
+		int fencePostSlabs,
+		int wallPosts,
+		int wallPostSlabs,
+		long familiesRegistered,
+		double registrationMillis,
+		double registryIndexMillis,
+		double discoveryMillis,
+		long filesGenerated,
+		long bytesGenerated,
+		double generationMillis,
+		long modelsDeduplicated,
+		long variantsDeduplicated,
+		int cacheHits,
+		int cacheMisses,
+		long neighborUpdates,
+		long fluidTicksScheduled,
+		long fluidTicksSuppressed
+	) {}
+}
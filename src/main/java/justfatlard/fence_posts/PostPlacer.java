@@ -0,0 +1,175 @@
+package justfatlard.fence_posts;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrays;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.enums.SlabType;
+import net.minecraft.fluid.Fluids;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * Places posts or post slabs along a line, across a rectangle or around its perimeter in one operation.
+ * States are written chunk by chunk without neighbor or shape updates, which are then applied once per
+ * placed block at the end. Waterlogging follows the blocks' own placement rules.
+ */
+public final class PostPlacer {
+	// Same limit as /fill
+	public static final int MAX_BLOCKS = 32768;
+
+	// Send to clients but skip neighbor and shape updates until everything is placed
+	private static final int PLACE_FLAGS = Block.NOTIFY_LISTENERS | Block.FORCE_STATE;
+
+	private PostPlacer() {}
+
+	public enum Shape {
+		// Straight line between the corners
+		LINE,
+		// Every position in the box between the corners
+		RECT,
+		// The outline of the box between the corners on each layer, like a fence around an area
+		PERIMETER
+	}
+
+	/**
+	 * @param placed Blocks placed
+	 * @param skipped Positions left alone because they were occupied
+	 * @param nanos Time taken, including the deferred updates
+	 */
+	public record Result(int placed, int skipped, long nanos) {
+		public double blocksPerSecond() {
+			return nanos == 0 ? 0 : placed * 1_000_000_000.0 / nanos;
+		}
+	}
+
+	/**
+	 * Number of positions a fill would cover, to check against {@link #MAX_BLOCKS} before filling.
+	 */
+	public static long count(Shape shape, BlockPos from, BlockPos to) {
+		long dx = Math.abs(to.getX() - from.getX()) + 1;
+		long dy = Math.abs(to.getY() - from.getY()) + 1;
+		long dz = Math.abs(to.getZ() - from.getZ()) + 1;
+
+		return switch (shape) {
+			case LINE -> Math.max(dx, Math.max(dy, dz));
+			case RECT -> dx * dy * dz;
+			case PERIMETER -> (dx <= 2 || dz <= 2 ? dx * dz : 2 * (dx + dz) - 4) * dy;
+		};
+	}
+
+	/**
+	 * Fill a shape with a post or post slab state. Only replaceable positions (air, water, plants) are filled;
+	 * a slab over the same slab of the other half becomes a double slab, as when placed by hand.
+	 *
+	 * @throws IllegalArgumentException If the state isn't a post or post slab, the shape covers more than {@link #MAX_BLOCKS},
+	 * or any chunk between the corners isn't loaded
+	 */
+	public static Result fill(ServerWorld world, Shape shape, BlockPos from, BlockPos to, BlockState state) {
+		PostFamily family = Main.getFamily(state.getBlock());
+		if (family == null || family.source() == state.getBlock()) {
+			throw new IllegalArgumentException(state.getBlock() + " is not a post or post slab");
+		}
+		if (count(shape, from, to) > MAX_BLOCKS) {
+			throw new IllegalArgumentException("Too many blocks in the specified area (maximum " + MAX_BLOCKS + ")");
+		}
+		// Like /fill, refuse rather than load or skip chunks between the corners
+		if (!world.isRegionLoaded(BlockPos.min(from, to), BlockPos.max(from, to))) {
+			throw new IllegalArgumentException("That position is not loaded");
+		}
+
+		long start = System.nanoTime();
+		long[] positions = positions(shape, from, to);
+		LongArrayList placed = new LongArrayList(positions.length);
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+
+		for (long packed : positions) {
+			pos.set(packed);
+			BlockState existing = world.getBlockState(pos);
+			BlockState placement = placementState(state, existing, world.getFluidState(pos).getFluid() == Fluids.WATER);
+
+			if (placement != null && world.setBlockState(pos, placement, PLACE_FLAGS)) {
+				placed.add(packed);
+			}
+		}
+
+		// Deferred updates, once per placed block
+		for (int i = 0; i < placed.size(); i++) {
+			pos.set(placed.getLong(i));
+			BlockState placedState = world.getBlockState(pos);
+			placedState.updateNeighbors(world, pos, Block.NOTIFY_LISTENERS);
+			world.updateNeighbors(pos, placedState.getBlock());
+		}
+
+		return new Result(placed.size(), positions.length - placed.size(), System.nanoTime() - start);
+	}
+
+	/**
+	 * The state to place over an existing one, or null to leave the position alone.
+	 */
+	static BlockState placementState(BlockState requested, BlockState existing, boolean inWater) {
+		if (requested.contains(Properties.SLAB_TYPE)) {
+			SlabType type = requested.get(Properties.SLAB_TYPE);
+
+			// Completing a half slab drains it, same as SlabPlacement
+			if (existing.isOf(requested.getBlock())) {
+				SlabType existingType = existing.get(Properties.SLAB_TYPE);
+				if (existingType == SlabType.DOUBLE || existingType == type) return null;
+				return existing.with(Properties.SLAB_TYPE, SlabType.DOUBLE).with(Properties.WATERLOGGED, false);
+			}
+			if (!existing.isReplaceable()) return null;
+
+			return requested.with(Properties.WATERLOGGED, inWater && type != SlabType.DOUBLE);
+		}
+
+		if (!existing.isReplaceable()) return null;
+		return requested.with(Properties.WATERLOGGED, inWater);
+	}
+
+	// Packed positions sorted by chunk, then height, so writes stay within one chunk section at a time
+	private static long[] positions(Shape shape, BlockPos from, BlockPos to) {
+		LongArrayList positions = new LongArrayList((int) count(shape, from, to));
+
+		if (shape == Shape.LINE) {
+			int steps = (int) count(shape, from, to) - 1;
+			for (int i = 0; i <= steps; i++) {
+				double t = steps == 0 ? 0 : (double) i / steps;
+				positions.add(BlockPos.asLong(
+					(int) Math.round(from.getX() + (to.getX() - from.getX()) * t),
+					(int) Math.round(from.getY() + (to.getY() - from.getY()) * t),
+					(int) Math.round(from.getZ() + (to.getZ() - from.getZ()) * t)));
+			}
+		} else {
+			int minX = Math.min(from.getX(), to.getX());
+			int minY = Math.min(from.getY(), to.getY());
+			int minZ = Math.min(from.getZ(), to.getZ());
+			int maxX = Math.max(from.getX(), to.getX());
+			int maxY = Math.max(from.getY(), to.getY());
+			int maxZ = Math.max(from.getZ(), to.getZ());
+
+			for (int x = minX; x <= maxX; x++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					boolean edge = x == minX || x == maxX || z == minZ || z == maxZ;
+					if (shape == Shape.PERIMETER && !edge) continue;
+
+					for (int y = minY; y <= maxY; y++) {
+						positions.add(BlockPos.asLong(x, y, z));
+					}
+				}
+			}
+		}
+
+		long[] sorted = positions.toLongArray();
+		LongArrays.quickSort(sorted, (a, b) -> {
+			int byChunk = Long.compare(chunkKey(a), chunkKey(b));
+			return byChunk != 0 ? byChunk : Integer.compare(BlockPos.unpackLongY(a), BlockPos.unpackLongY(b));
+		});
+		return sorted;
+	}
+
+	private static long chunkKey(long packed) {
+		return ChunkPos.toLong(BlockPos.unpackLongX(packed) >> 4, BlockPos.unpackLongZ(packed) >> 4);
+	}
+}
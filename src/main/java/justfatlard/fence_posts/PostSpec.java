@@ -0,0 +1,54 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.sound.BlockSoundGroup;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Declaration of a post family: a post and its slab, derived from a fence or wall.
+ *
+ * @param kind Whether the family is derived from a fence or a wall
+ * @param baseName The base name (e.g., "oak" for "oak_fence_post")
+ * @param soundGroup The sound group to use
+ * @param burnable Whether the post can burn, only used for fence posts
+ * @param namespace Namespace of the source fence or wall, used to find the source block and guess the texture
+ * @param texture Texture for generated models, or null to guess it from the source block
+ */
+public record PostSpec(Kind kind, String baseName, BlockSoundGroup soundGroup, boolean burnable, String namespace, @Nullable String texture) {
+	public static PostSpec fence(String baseName, BlockSoundGroup soundGroup, boolean burnable) {
+		return fence("minecraft", baseName, soundGroup, burnable);
+	}
+
+	/**
+	 * A family for the fence namespace:baseName_fence, with its texture guessed from the fence.
+	 */
+	public static PostSpec fence(String namespace, String baseName, BlockSoundGroup soundGroup, boolean burnable) {
+		return new PostSpec(Kind.FENCE, baseName, soundGroup, burnable, namespace, null);
+	}
+
+	public static PostSpec wall(String baseName, BlockSoundGroup soundGroup) {
+		return wall("minecraft", baseName, soundGroup);
+	}
+
+	/**
+	 * A family for the wall namespace:baseName_wall, with its texture guessed from the wall.
+	 */
+	public static PostSpec wall(String namespace, String baseName, BlockSoundGroup soundGroup) {
+		return new PostSpec(Kind.WALL, baseName, soundGroup, false, namespace, null);
+	}
+
+	public String postName() {
+		return baseName + (kind == Kind.FENCE ? "_fence_post" : "_wall_post");
+	}
+
+	/**
+	 * Vanilla families ship with static resources, others need them generated.
+	 */
+	public boolean isVanilla() {
+		return "minecraft".equals(namespace);
+	}
+
+	public enum Kind {
+		FENCE,
+		WALL
+	}
+}
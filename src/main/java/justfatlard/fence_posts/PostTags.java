@@ -0,0 +1,88 @@
+package justfatlard.fence_posts;
+
+import justfatlard.fence_posts.mixin.TagEntryAccessor;
+import net.minecraft.block.Block;
+import net.minecraft.registry.Registries;
+import net.minecraft.registry.tag.TagEntry;
+import net.minecraft.registry.tag.TagGroupLoader;
+import net.minecraft.util.Identifier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Block tag entries for posts, derived from their source fences and walls instead of tag files.
+ * Every tag that lists a source block gets its post and post slab too, e.g. minecraft:wooden_fences or
+ * minecraft:walls. Tags that only reference those through another tag (e.g. minecraft:fences or
+ * minecraft:mineable/axe) pick the posts up through the reference, so the posts end up in every tag
+ * that transitively contains their source. Entries are added as tags are loaded, on startup and every reload,
+ * and follow any datapack changes to the source's tags.
+ */
+public final class PostTags {
+	// Shown as the entry's source in tag loading errors
+	private static final String SOURCE = Main.MOD_ID + " (generated)";
+
+	private PostTags() {}
+
+	/**
+	 * Add post entries to freshly loaded block tag entries (see TagGroupLoaderMixin).
+	 *
+	 * @param tags Entries of every block tag by tag id, modified in place
+	 * @return The number of entries added
+	 */
+	public static int addPostEntries(Map<Identifier, List<TagGroupLoader.TrackedEntry>> tags) {
+		Map<Identifier, List<Identifier>> postsBySource = getPostsBySource();
+		if (postsBySource.isEmpty()) return 0;
+
+		int added = 0;
+		for (Map.Entry<Identifier, List<TagGroupLoader.TrackedEntry>> tag : tags.entrySet()) {
+			List<TagGroupLoader.TrackedEntry> additions = null;
+
+			for (TagGroupLoader.TrackedEntry tracked : tag.getValue()) {
+				TagEntryAccessor entry = (TagEntryAccessor) tracked.entry();
+				// Referenced tags get their own post entries
+				if (entry.fencePosts$isTag()) continue;
+
+				List<Identifier> posts = postsBySource.get(entry.fencePosts$getId());
+				if (posts == null) continue;
+
+				if (additions == null) additions = new ArrayList<>();
+				for (Identifier post : posts) {
+					additions.add(new TagGroupLoader.TrackedEntry(TagEntry.create(post), SOURCE));
+				}
+			}
+
+			if (additions != null) {
+				List<TagGroupLoader.TrackedEntry> entries = new ArrayList<>(tag.getValue().size() + additions.size());
+				entries.addAll(tag.getValue());
+				entries.addAll(additions);
+				tag.setValue(entries);
+				added += additions.size();
+			}
+		}
+
+		if (added > 0) {
+			System.out.println("[" + Main.MOD_ID + "] Added " + added + " post entries to block tags");
+		}
+		return added;
+	}
+
+	// Post and slab ids for each family's source id. Tag entries are ids, so this doesn't need the source block linked.
+	private static Map<Identifier, List<Identifier>> getPostsBySource() {
+		Map<Identifier, List<Identifier>> postsBySource = new HashMap<>();
+		addFamilies(postsBySource, Main.getFencePosts());
+		addFamilies(postsBySource, Main.getWallPosts());
+		return postsBySource;
+	}
+
+	private static void addFamilies(Map<Identifier, List<Identifier>> postsBySource, List<Block> posts) {
+		for (Block post : posts) {
+			PostFamily family = Main.getFamily(post);
+			if (family == null) continue;
+
+			postsBySource.put(family.sourceId(), List.of(Registries.BLOCK.getId(family.post()), Registries.BLOCK.getId(family.slab())));
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package justfatlard.fence_posts;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+
+/**
+ * Neighbor updates and fluid ticks handled by posts in each of the last {@link #CAPACITY} server ticks.
+ */
+final class PostTickStats {
+	static final int CAPACITY = 1200;
+
+	private static final long[] neighborUpdates = new long[CAPACITY];
+	private static final long[] scheduled = new long[CAPACITY];
+	private static final long[] suppressed = new long[CAPACITY];
+	private static int next = 0;
+	private static int filled = 0;
+	private static boolean registered = false;
+
+	// Counter totals at the end of the previous tick
+	private static long lastNeighborUpdates;
+	private static long lastScheduled;
+	private static long lastSuppressed;
+
+	private PostTickStats() {}
+
+	static synchronized void register() {
+		if (registered) return;
+		registered = true;
+
+		lastNeighborUpdates = PostFluidTicks.getNeighborUpdateCount();
+		lastScheduled = PostFluidTicks.getScheduledCount();
+		lastSuppressed = PostFluidTicks.getSuppressedCount();
+		ServerTickEvents.END_SERVER_TICK.register(server -> record());
+	}
+
+	private static synchronized void record() {
+		long totalNeighborUpdates = PostFluidTicks.getNeighborUpdateCount();
+		long totalScheduled = PostFluidTicks.getScheduledCount();
+		long totalSuppressed = PostFluidTicks.getSuppressedCount();
+
+		neighborUpdates[next] = totalNeighborUpdates - lastNeighborUpdates;
+		scheduled[next] = totalScheduled - lastScheduled;
+		suppressed[next] = totalSuppressed - lastSuppressed;
+		next = (next + 1) % CAPACITY;
+		if (filled < CAPACITY) filled++;
+
+		lastNeighborUpdates = totalNeighborUpdates;
+		lastScheduled = totalScheduled;
+		lastSuppressed = totalSuppressed;
+	}
+
+	/**
+	 * Sum the most recent ticks, up to as many as have been recorded.
+	 */
+	static synchronized Window sum(int ticks) {
+		int count = Math.min(ticks, filled);
+		long totalNeighborUpdates = 0;
+		long totalScheduled = 0;
+		long totalSuppressed = 0;
+
+		for (int i = 1; i <= count; i++) {
+			int index = (next - i + CAPACITY) % CAPACITY;
+			totalNeighborUpdates += neighborUpdates[index];
+			totalScheduled += scheduled[index];
+			totalSuppressed += suppressed[index];
+		}
+
+		return new Window(count, totalNeighborUpdates, totalScheduled, totalSuppressed);
+	}
+
+	record Window(int ticks, long neighborUpdates, long fluidTicksScheduled, long fluidTicksSuppressed) {}
+}
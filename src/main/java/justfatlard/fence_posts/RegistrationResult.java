@@ -0,0 +1,21 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.block.Block;
+
+import java.util.List;
+
+/**
+ * Outcome of {@link Main#registerPosts}: the families registered, in order, and the ones skipped.
+ */
+public record RegistrationResult(List<Registered> registered, List<Skipped> skipped) {
+	public record Registered(PostSpec spec, Block post, Block slab) {}
+
+	public record Skipped(PostSpec spec, Reason reason) {}
+
+	public enum Reason {
+		// A post with the same name is already registered, possibly earlier in the same batch
+		DUPLICATE,
+		// The spec is missing a field, or its namespace or base name don't make valid identifiers
+		INVALID
+	}
+}
@@ -0,0 +1,135 @@
+package justfatlard.fence_posts;
+
+import net.fabricmc.fabric.api.event.registry.RegistryEntryAddedCallback;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.FenceBlock;
+import net.minecraft.block.WallBlock;
+import net.minecraft.registry.Registries;
+import net.minecraft.util.Identifier;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Every fence and wall in the block registry with its derived post and slab names,
+ * shared by modded-block discovery and the public API.
+ * Blocks are classified as they are added to the registry, so blocks registered after this mod
+ * initializes are picked up without rescanning. With auto-registration enabled
+ * (-Dfence-posts.autoRegister=true), modded fences and walls get posts and in-memory resources as they arrive.
+ */
+public final class RegistryIndex {
+	private static final RegistryIndex INSTANCE = new RegistryIndex();
+	private static boolean subscribed = false;
+	private static volatile boolean autoRegister = Boolean.getBoolean("fence-posts.autoRegister");
+	private static GeneratedResourcePack autoRegisteredPack;
+
+	private final List<Entry> fences = new CopyOnWriteArrayList<>();
+	private final List<Entry> walls = new CopyOnWriteArrayList<>();
+	private final AtomicLong indexNanos = new AtomicLong();
+
+	// Package-private so benchmarks can time a classification pass on a standalone index
+	RegistryIndex() {}
+
+	/**
+	 * Get the index, subscribing to block registrations on first use.
+	 */
+	public static RegistryIndex get() {
+		subscribe();
+		return INSTANCE;
+	}
+
+	/**
+	 * Index the blocks already registered, then every block added from now on.
+	 */
+	public static synchronized void subscribe() {
+		if (subscribed) return;
+		subscribed = true;
+
+		PostEvents.RegistryScan event = new PostEvents.RegistryScan();
+		event.begin();
+		long start = System.nanoTime();
+		RegistryEntryAddedCallback.allEntries(Registries.BLOCK, entry -> INSTANCE.add(entry.registryKey().getValue(), entry.value()));
+		INSTANCE.indexNanos.addAndGet(System.nanoTime() - start);
+
+		if (event.shouldCommit()) {
+			event.fences = INSTANCE.fences.size();
+			event.walls = INSTANCE.walls.size();
+			event.commit();
+		}
+	}
+
+	/**
+	 * Automatically register posts (with generated in-memory resources) for modded fences and walls.
+	 * Only affects blocks added after this is enabled; existing ones can be registered through the Main API.
+	 */
+	public static void setAutoRegister(boolean enabled) {
+		autoRegister = enabled;
+	}
+
+	void add(Identifier id, Block block) {
+		long start = System.nanoTime();
+		Entry entry;
+
+		if (block instanceof FenceBlock) {
+			String baseName = id.getPath().replace("_fence", "");
+			entry = new Entry(id, block, baseName, baseName + "_fence_post", baseName + "_fence_post_slab");
+			fences.add(entry);
+		} else if (block instanceof WallBlock) {
+			String baseName = id.getPath().replace("_wall", "");
+			entry = new Entry(id, block, baseName, baseName + "_wall_post", baseName + "_wall_post_slab");
+			walls.add(entry);
+		} else {
+			return;
+		}
+
+		indexNanos.addAndGet(System.nanoTime() - start);
+
+		// Families declared before their source block was registered
+		Main.linkSource(id, block);
+
+		if (autoRegister && !entry.isVanilla()) {
+			registerPosts(entry);
+		}
+	}
+
+	private static synchronized void registerPosts(Entry entry) {
+		if (autoRegisteredPack == null) {
+			autoRegisteredPack = GeneratedResourcePack.register("auto_registered");
+		}
+
+		BlockState state = entry.block().getDefaultState();
+		boolean fence = entry.block() instanceof FenceBlock;
+		String namespace = entry.id().getNamespace();
+		String texture = fence ? RuntimeResourceGenerator.guessFenceTexture(entry.id()) : RuntimeResourceGenerator.guessWallTexture(entry.id());
+
+		// Declared with the block's own namespace so the family links back to it
+		PostSpec spec = new PostSpec(fence ? PostSpec.Kind.FENCE : PostSpec.Kind.WALL, entry.baseName(),
+			state.getSoundGroup(), fence && state.isBurnable(), namespace, texture);
+		if (Main.registerPosts(List.of(spec)).registered().isEmpty()) return;
+
+		if (fence) {
+			RuntimeResourceGenerator.generateFencePostResources(autoRegisteredPack, entry.baseName(), namespace, texture);
+		} else {
+			RuntimeResourceGenerator.generateWallPostResources(autoRegisteredPack, entry.baseName(), namespace, texture);
+		}
+	}
+
+	public List<Entry> getFences() { return Collections.unmodifiableList(fences); }
+	public List<Entry> getWalls() { return Collections.unmodifiableList(walls); }
+
+	/**
+	 * Total time spent classifying registered blocks, in milliseconds.
+	 */
+	public double getIndexMillis() {
+		return indexNanos.get() / 1_000_000.0;
+	}
+
+	public record Entry(Identifier id, Block block, String baseName, String postName, String slabName) {
+		public boolean isVanilla() {
+			return "minecraft".equals(id.getNamespace());
+		}
+	}
+}
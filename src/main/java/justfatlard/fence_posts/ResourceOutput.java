@@ -0,0 +1,24 @@
+package justfatlard.fence_posts;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Destination for files produced by {@link RuntimeResourceGenerator}.
+ * Paths are relative to the pack root, e.g. "assets/fence-posts/blockstates/oak_fence_post.json".
+ */
+public interface ResourceOutput {
+	void write(String path, byte[] data) throws IOException;
+
+	/**
+	 * Write loose files under a directory on disk.
+	 */
+	static ResourceOutput directory(Path root) {
+		return (path, data) -> {
+			Path file = root.resolve(path);
+			Files.createDirectories(file.getParent());
+			Files.write(file, data);
+		};
+	}
+}
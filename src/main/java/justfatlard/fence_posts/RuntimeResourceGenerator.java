@@ -1,33 +1,72 @@
 package justfatlard.fence_posts;
 
+import com.google.gson.FormattingStyle;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import net.minecraft.block.Block;
-import net.minecraft.block.FenceBlock;
-import net.minecraft.block.WallBlock;
-import net.minecraft.registry.Registries;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.io.Writer;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static justfatlard.fence_posts.JsonTemplate.slot;
 
 /**
  * Generates runtime resources for dynamically discovered fences and walls.
  * This allows the mod to automatically support any modded fence or wall block.
  */
 public class RuntimeResourceGenerator {
-	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+	// Tab-indented like the hand-written resources; no HTML escaping, so variant keys keep their '='
+	private static final Gson GSON = new GsonBuilder().setFormattingStyle(FormattingStyle.PRETTY.withIndent("\t")).disableHtmlEscaping().create();
+	private static final Gson COMPACT_GSON = new GsonBuilder().disableHtmlEscaping().create();
 	private static final String MOD_ID = Main.MOD_ID;
 
+	// Output templates, compiled once from the JSON helpers
+	private static final Templates PRETTY = new Templates("pretty", GSON, false);
+	private static final Templates COMPACT = new Templates("compact", COMPACT_GSON, false);
+	private static final Templates PRETTY_DEDUPED = new Templates("pretty-deduped", GSON, true);
+	private static final Templates COMPACT_DEDUPED = new Templates("compact-deduped", COMPACT_GSON, true);
+
+	// Write single-line JSON instead of pretty-printed
+	private static volatile boolean compactOutput = false;
+
+	// Share the post model with the double slab and collapse variants that only differ by waterlogged
+	private static volatile boolean dedupedModels = !"false".equals(System.getProperty("fence-posts.dedupeModels"));
+
+	// Saved per family by deduplication: the double slab model, one post variant and three slab variants
+	private static final int DEDUPED_MODELS_PER_FAMILY = 1;
+	private static final int DEDUPED_VARIANTS_PER_FAMILY = 4;
+
+	// Bump whenever generated output changes so cached families are regenerated
+	public static final int GENERATOR_VERSION = 4;
+
+	// Files written for each post family
+	private static final int FILES_PER_FAMILY = 10;
+
+	// Families submitted ahead of the writer, bounds the threads' backlog and memory held by the batch pipeline
+	private static final int WRITE_QUEUE_SIZE = 64;
+
+	// Generation caches for each output directory written this session
+	private static final Map<Path, GenerationCache> CACHES = new HashMap<>();
+
 	// Track which blocks we've already generated resources for
 	private static final Set<String> generatedFences = new HashSet<>();
 	private static final Set<String> generatedWalls = new HashSet<>();
@@ -57,50 +96,44 @@ public class RuntimeResourceGenerator {
 	);
 
 	/**
-	 * Scan the registry and return info about modded fences and walls.
+	 * Return info about modded fences from the shared registry index.
 	 */
 	public static List<FenceInfo> discoverModdedFences() {
 		List<FenceInfo> fences = new ArrayList<>();
 
-		for (Block block : Registries.BLOCK) {
-			if (block instanceof FenceBlock) {
-				Identifier id = Registries.BLOCK.getId(block);
-				String fullId = id.toString();
+		for (RegistryIndex.Entry entry : RegistryIndex.get().getFences()) {
+			String fullId = entry.id().toString();
 
-				// Skip vanilla fences (already have static resources)
-				if (VANILLA_FENCES.contains(fullId)) continue;
+			// Skip vanilla fences (already have static resources)
+			if (VANILLA_FENCES.contains(fullId)) continue;
 
-				// Skip if already generated
-				if (generatedFences.contains(fullId)) continue;
+			// Skip if already generated
+			if (generatedFences.contains(fullId)) continue;
 
-				fences.add(new FenceInfo(id, block));
-				generatedFences.add(fullId);
-			}
+			fences.add(new FenceInfo(entry.id(), entry.block()));
+			generatedFences.add(fullId);
 		}
 
 		return fences;
 	}
 
 	/**
-	 * Scan the registry and return info about modded walls.
+	 * Return info about modded walls from the shared registry index.
 	 */
 	public static List<WallInfo> discoverModdedWalls() {
 		List<WallInfo> walls = new ArrayList<>();
 
-		for (Block block : Registries.BLOCK) {
-			if (block instanceof WallBlock) {
-				Identifier id = Registries.BLOCK.getId(block);
-				String fullId = id.toString();
+		for (RegistryIndex.Entry entry : RegistryIndex.get().getWalls()) {
+			String fullId = entry.id().toString();
 
-				// Skip vanilla walls (already have static resources)
-				if (VANILLA_WALLS.contains(fullId)) continue;
+			// Skip vanilla walls (already have static resources)
+			if (VANILLA_WALLS.contains(fullId)) continue;
 
-				// Skip if already generated
-				if (generatedWalls.contains(fullId)) continue;
+			// Skip if already generated
+			if (generatedWalls.contains(fullId)) continue;
 
-				walls.add(new WallInfo(id, block));
-				generatedWalls.add(fullId);
-			}
+			walls.add(new WallInfo(entry.id(), entry.block()));
+			generatedWalls.add(fullId);
 		}
 
 		return walls;
@@ -110,99 +143,319 @@ public class RuntimeResourceGenerator {
 	 * Generate all resource files for a fence post and its slab variant.
 	 */
 	public static void generateFencePostResources(Path outputPath, String baseName, String namespace, String texturePath) throws IOException {
+		generate(ResourceOutput.directory(outputPath), getCache(outputPath),
+			List.of(new Family(true, baseName, namespace, texturePath)));
+	}
+
+	/**
+	 * Generate all resource files for a fence post and its slab variant into an in-memory pack.
+	 */
+	public static void generateFencePostResources(GeneratedResourcePack pack, String baseName, String namespace, String texturePath) {
+		generate(pack, List.of(new Family(true, baseName, namespace, texturePath)));
+	}
+
+	/**
+	 * Generate all resource files for a wall post and its slab variant.
+	 */
+	public static void generateWallPostResources(Path outputPath, String baseName, String namespace, String texturePath) throws IOException {
+		generate(ResourceOutput.directory(outputPath), getCache(outputPath),
+			List.of(new Family(false, baseName, namespace, texturePath)));
+	}
+
+	/**
+	 * Generate all resource files for a wall post and its slab variant into an in-memory pack.
+	 */
+	public static void generateWallPostResources(GeneratedResourcePack pack, String baseName, String namespace, String texturePath) {
+		generate(pack, List.of(new Family(false, baseName, namespace, texturePath)));
+	}
+
+	/**
+	 * Generate resources for every discovered fence and wall in one batch.
+	 * JSON is built in parallel and written through a single bounded I/O stage.
+	 * Textures are guessed with {@link #guessFenceTexture} and {@link #guessWallTexture}.
+	 */
+	public static void generateAll(Path outputPath, List<FenceInfo> fences, List<WallInfo> walls) throws IOException {
+		generate(ResourceOutput.directory(outputPath), getCache(outputPath), toFamilies(fences, walls));
+	}
+
+	/**
+	 * Generate resources for every discovered fence and wall into a single zip archive.
+	 * The archive is rewritten as a whole and swapped in atomically, so the generation cache is not used.
+	 * Entries are written in a fixed order with a fixed timestamp, so the same inputs give the same archive.
+	 *
+	 * @param compress Deflate entries, or store them uncompressed
+	 * @param packMetadata Written as pack.mcmeta so the archive loads as a pack on its own, or null to leave it out
+	 *                     (e.g. when the archive is merged into another pack)
+	 */
+	public static void generateAllToZip(Path zipFile, List<FenceInfo> fences, List<WallInfo> walls, boolean compress,
+		@Nullable JsonObject packMetadata) throws IOException {
+		try (ZipResourceOutput zip = ZipResourceOutput.create(zipFile, compress)) {
+			if (packMetadata != null) {
+				zip.write("pack.mcmeta", GSON.toJson(packMetadata).getBytes(StandardCharsets.UTF_8));
+			}
+			generate(zip, null, toFamilies(fences, walls));
+			zip.commit();
+		}
+	}
+
+	/**
+	 * Generate resources for every discovered fence and wall in one batch into an in-memory pack.
+	 */
+	public static void generateAll(GeneratedResourcePack pack, List<FenceInfo> fences, List<WallInfo> walls) {
+		generate(pack, toFamilies(fences, walls));
+	}
+
+	/**
+	 * Generate resources for declared post families into any output, e.g. the data generator.
+	 * Textures the specs leave out are guessed from the source block id.
+	 */
+	public static void generateAll(ResourceOutput output, Collection<PostSpec> specs) throws IOException {
+		generate(output, null, toFamilies(specs));
+	}
+
+	/**
+	 * Generate resources for declared post families into an in-memory pack.
+	 */
+	public static void generateAll(GeneratedResourcePack pack, Collection<PostSpec> specs) {
+		generate(pack, toFamilies(specs));
+	}
+
+	private static List<Family> toFamilies(Collection<PostSpec> specs) {
+		List<Family> families = new ArrayList<>(specs.size());
+		for (PostSpec spec : specs) {
+			boolean fence = spec.kind() == PostSpec.Kind.FENCE;
+			String texture = spec.texture();
+			if (texture == null) {
+				Identifier sourceId = Identifier.of(spec.namespace(), spec.baseName() + (fence ? "_fence" : "_wall"));
+				texture = fence ? guessFenceTexture(sourceId) : guessWallTexture(sourceId);
+			}
+			families.add(new Family(fence, spec.baseName(), spec.namespace(), texture));
+		}
+		return families;
+	}
+
+	private static List<Family> toFamilies(List<FenceInfo> fences, List<WallInfo> walls) {
+		List<Family> families = new ArrayList<>(fences.size() + walls.size());
+		for (FenceInfo fence : fences) {
+			families.add(new Family(true, fence.getBaseName(), fence.id().getNamespace(), guessFenceTexture(fence.id())));
+		}
+		for (WallInfo wall : walls) {
+			families.add(new Family(false, wall.getBaseName(), wall.id().getNamespace(), guessWallTexture(wall.id())));
+		}
+		return families;
+	}
+
+	private static void generate(GeneratedResourcePack pack, List<Family> families) {
+		try {
+			generate(pack, null, families);
+		} catch (IOException e) {
+			// In-memory writes never fail
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Build the files for each family on a fixed pool and drain them to the output on the calling thread.
+	 * At most WRITE_QUEUE_SIZE families are submitted ahead of the writer, so neither threads nor
+	 * built-but-unwritten files grow with the batch size.
+	 */
+	private static void generate(ResourceOutput output, @Nullable GenerationCache cache, List<Family> families) throws IOException {
+		Templates templates = compactOutput
+			? (dedupedModels ? COMPACT_DEDUPED : COMPACT)
+			: (dedupedModels ? PRETTY_DEDUPED : PRETTY);
+
+		// Skip families already generated with the same inputs
+		List<Family> pending = new ArrayList<>(families.size());
+		for (Family family : families) {
+			if (cache == null || !cache.isCurrent(family.postName(), family.hash(templates))) {
+				pending.add(family);
+			}
+		}
+		if (pending.isEmpty()) return;
+
+		// Not worth a pool for a single family
+		if (pending.size() == 1) {
+			write(output, cache, templates, pending.get(0), pending.get(0).createFiles(templates));
+			return;
+		}
+
+		// Families are written in submission order, so the output (e.g. zip entry order) is reproducible
+		ArrayDeque<Future<List<GeneratedFile>>> window = new ArrayDeque<>(WRITE_QUEUE_SIZE);
+		ExecutorService pool = Executors.newFixedThreadPool(Math.min(pending.size(), Runtime.getRuntime().availableProcessors()));
+		try {
+			int submitted = 0;
+			for (Family family : pending) {
+				// Keep the window of submitted but unwritten families bounded
+				while (submitted < pending.size() && window.size() < WRITE_QUEUE_SIZE) {
+					Family next = pending.get(submitted++);
+					window.add(pool.submit(() -> next.createFiles(templates)));
+				}
+
+				// A failed task still completes its future, so the writer never waits forever
+				List<GeneratedFile> files;
+				try {
+					files = window.remove().get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof Error error) throw error;
+					throw new IOException("Failed to generate resources for " + family.postName(), e.getCause());
+				}
+				write(output, cache, templates, family, files);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while generating post resources");
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private static void write(ResourceOutput output, @Nullable GenerationCache cache, Templates templates, Family family, List<GeneratedFile> files) throws IOException {
+		List<String> paths = new ArrayList<>(files.size());
+		for (GeneratedFile file : files) {
+			PostEvents.FileGenerated event = new PostEvents.FileGenerated();
+			event.begin();
+			long start = System.nanoTime();
+			output.write(file.path(), file.data());
+			PostMetrics.recordFile(file.data().length, file.renderNanos() + System.nanoTime() - start);
+
+			if (event.shouldCommit()) {
+				event.path = file.path();
+				event.bytes = file.data().length;
+				event.renderTime = file.renderNanos();
+				event.commit();
+			}
+			paths.add(file.path());
+		}
+		if (cache != null) cache.record(family.postName(), family.hash(templates), paths);
+		if (templates.deduped) PostMetrics.recordDeduplication(DEDUPED_MODELS_PER_FAMILY, DEDUPED_VARIANTS_PER_FAMILY);
+	}
+
+	// Render a file, keeping its render time for metrics and flight recordings
+	private static void add(List<GeneratedFile> files, String path, Supplier<byte[]> render) {
+		long start = System.nanoTime();
+		byte[] data = render.get();
+		files.add(new GeneratedFile(path, data, System.nanoTime() - start));
+	}
+
+	private static List<GeneratedFile> createFencePostFiles(Templates templates, String baseName, String texturePath) {
 		String postName = baseName + "_fence_post";
 		String slabName = baseName + "_fence_post_slab";
+		List<GeneratedFile> files = new ArrayList<>(FILES_PER_FAMILY);
 
 		// Block models
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/block/" + postName + ".json"),
-			createChildModel(MOD_ID + ":block/parent/fence_post", texturePath));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/block/" + slabName + "_bottom.json"),
-			createChildModel(MOD_ID + ":block/parent/fence_post_slab_bottom", texturePath));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/block/" + slabName + "_top.json"),
-			createChildModel(MOD_ID + ":block/parent/fence_post_slab_top", texturePath));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/block/" + slabName + "_double.json"),
-			createChildModel(MOD_ID + ":block/parent/fence_post", texturePath));
+		add(files, "assets/" + MOD_ID + "/models/block/" + postName + ".json",
+			() -> templates.childModel.render(MOD_ID + ":block/parent/fence_post", texturePath));
+		add(files, "assets/" + MOD_ID + "/models/block/" + slabName + "_bottom.json",
+			() -> templates.childModel.render(MOD_ID + ":block/parent/fence_post_slab_bottom", texturePath));
+		add(files, "assets/" + MOD_ID + "/models/block/" + slabName + "_top.json",
+			() -> templates.childModel.render(MOD_ID + ":block/parent/fence_post_slab_top", texturePath));
+		if (!templates.deduped) {
+			add(files, "assets/" + MOD_ID + "/models/block/" + slabName + "_double.json",
+				() -> templates.childModel.render(MOD_ID + ":block/parent/fence_post", texturePath));
+		}
 
 		// Blockstates
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/blockstates/" + postName + ".json"),
-			createSimpleBlockstate(postName));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/blockstates/" + slabName + ".json"),
-			createSlabBlockstate(slabName));
+		add(files, "assets/" + MOD_ID + "/blockstates/" + postName + ".json",
+			() -> templates.simpleBlockstate.render(postName));
+		add(files, "assets/" + MOD_ID + "/blockstates/" + slabName + ".json",
+			() -> templates.slabBlockstate.render(slabName, templates.deduped ? postName : slabName + "_double"));
 
 		// Item models
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/item/" + postName + ".json"),
-			createItemModel(postName));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/item/" + slabName + ".json"),
-			createItemModel(slabName + "_bottom"));
+		add(files, "assets/" + MOD_ID + "/models/item/" + postName + ".json",
+			() -> templates.itemModel.render(postName));
+		add(files, "assets/" + MOD_ID + "/models/item/" + slabName + ".json",
+			() -> templates.itemModel.render(slabName + "_bottom"));
 
 		// Item definitions
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/items/" + postName + ".json"),
-			createItemDefinition(postName));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/items/" + slabName + ".json"),
-			createItemDefinition(slabName));
+		add(files, "assets/" + MOD_ID + "/items/" + postName + ".json",
+			() -> templates.itemDefinition.render(postName));
+		add(files, "assets/" + MOD_ID + "/items/" + slabName + ".json",
+			() -> templates.itemDefinition.render(slabName));
 
-		// Recipes
-		writeJson(outputPath.resolve("data/" + MOD_ID + "/recipe/" + postName + ".json"),
-			createFencePostRecipe(postName, namespace, baseName));
-		writeJson(outputPath.resolve("data/" + MOD_ID + "/recipe/" + slabName + ".json"),
-			createSlabRecipe(slabName, postName));
-
-		// Loot tables
-		writeJson(outputPath.resolve("data/" + MOD_ID + "/loot_table/blocks/" + postName + ".json"),
-			createLootTable(postName));
-		writeJson(outputPath.resolve("data/" + MOD_ID + "/loot_table/blocks/" + slabName + ".json"),
-			createSlabLootTable(slabName));
+		return files;
 	}
 
-	/**
-	 * Generate all resource files for a wall post and its slab variant.
-	 */
-	public static void generateWallPostResources(Path outputPath, String baseName, String namespace, String texturePath) throws IOException {
+	private static List<GeneratedFile> createWallPostFiles(Templates templates, String baseName, String texturePath) {
 		String postName = baseName + "_wall_post";
 		String slabName = baseName + "_wall_post_slab";
+		List<GeneratedFile> files = new ArrayList<>(FILES_PER_FAMILY);
 
 		// Block models
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/block/" + postName + ".json"),
-			createChildModel(MOD_ID + ":block/parent/wall_post", texturePath));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/block/" + slabName + "_bottom.json"),
-			createChildModel(MOD_ID + ":block/parent/wall_post_slab_bottom", texturePath));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/block/" + slabName + "_top.json"),
-			createChildModel(MOD_ID + ":block/parent/wall_post_slab_top", texturePath));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/block/" + slabName + "_double.json"),
-			createChildModel(MOD_ID + ":block/parent/wall_post", texturePath));
+		add(files, "assets/" + MOD_ID + "/models/block/" + postName + ".json",
+			() -> templates.childModel.render(MOD_ID + ":block/parent/wall_post", texturePath));
+		add(files, "assets/" + MOD_ID + "/models/block/" + slabName + "_bottom.json",
+			() -> templates.childModel.render(MOD_ID + ":block/parent/wall_post_slab_bottom", texturePath));
+		add(files, "assets/" + MOD_ID + "/models/block/" + slabName + "_top.json",
+			() -> templates.childModel.render(MOD_ID + ":block/parent/wall_post_slab_top", texturePath));
+		if (!templates.deduped) {
+			add(files, "assets/" + MOD_ID + "/models/block/" + slabName + "_double.json",
+				() -> templates.childModel.render(MOD_ID + ":block/parent/wall_post", texturePath));
+		}
 
 		// Blockstates
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/blockstates/" + postName + ".json"),
-			createSimpleBlockstate(postName));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/blockstates/" + slabName + ".json"),
-			createSlabBlockstate(slabName));
+		add(files, "assets/" + MOD_ID + "/blockstates/" + postName + ".json",
+			() -> templates.simpleBlockstate.render(postName));
+		add(files, "assets/" + MOD_ID + "/blockstates/" + slabName + ".json",
+			() -> templates.slabBlockstate.render(slabName, templates.deduped ? postName : slabName + "_double"));
 
 		// Item models
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/item/" + postName + ".json"),
-			createItemModel(postName));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/models/item/" + slabName + ".json"),
-			createItemModel(slabName + "_bottom"));
+		add(files, "assets/" + MOD_ID + "/models/item/" + postName + ".json",
+			() -> templates.itemModel.render(postName));
+		add(files, "assets/" + MOD_ID + "/models/item/" + slabName + ".json",
+			() -> templates.itemModel.render(slabName + "_bottom"));
 
 		// Item definitions
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/items/" + postName + ".json"),
-			createItemDefinition(postName));
-		writeJson(outputPath.resolve("assets/" + MOD_ID + "/items/" + slabName + ".json"),
-			createItemDefinition(slabName));
+		add(files, "assets/" + MOD_ID + "/items/" + postName + ".json",
+			() -> templates.itemDefinition.render(postName));
+		add(files, "assets/" + MOD_ID + "/items/" + slabName + ".json",
+			() -> templates.itemDefinition.render(slabName));
 
-		// Recipes
-		writeJson(outputPath.resolve("data/" + MOD_ID + "/recipe/" + postName + ".json"),
-			createWallPostRecipe(postName, namespace, baseName));
-		writeJson(outputPath.resolve("data/" + MOD_ID + "/recipe/" + slabName + ".json"),
-			createSlabRecipe(slabName, postName));
+		return files;
+	}
 
-		// Loot tables
-		writeJson(outputPath.resolve("data/" + MOD_ID + "/loot_table/blocks/" + postName + ".json"),
-			createLootTable(postName));
-		writeJson(outputPath.resolve("data/" + MOD_ID + "/loot_table/blocks/" + slabName + ".json"),
-			createSlabLootTable(slabName));
+	/**
+	 * Switch between pretty-printed (default) and compact single-line JSON output.
+	 */
+	public static void setCompactOutput(boolean compact) {
+		compactOutput = compact;
 	}
 
-	// JSON generation helpers
+	/**
+	 * Switch between deduplicated (default) and fully expanded models and blockstates.
+	 * Deduplicated output points double slabs at the post model instead of an identical copy and uses
+	 * one blockstate variant per model, so the client loads and bakes fewer models and variants.
+	 * Can also be disabled with -Dfence-posts.dedupeModels=false.
+	 */
+	public static void setDedupedModels(boolean deduped) {
+		dedupedModels = deduped;
+	}
+
+	/**
+	 * Finish generating into an output directory: delete the files of families that were not
+	 * generated this session (e.g. from removed mods) and save the generation cache.
+	 * Call once after all families for the directory have been generated.
+	 *
+	 * @return The number of stale families pruned
+	 */
+	public static int finishGeneration(Path outputPath) throws IOException {
+		GenerationCache cache;
+		synchronized (CACHES) {
+			cache = CACHES.remove(outputPath.toAbsolutePath().normalize());
+		}
+		if (cache == null) return 0;
+
+		int pruned = cache.prune();
+		cache.save();
+		return pruned;
+	}
+
+	private static GenerationCache getCache(Path outputPath) {
+		synchronized (CACHES) {
+			return CACHES.computeIfAbsent(outputPath.toAbsolutePath().normalize(), GenerationCache::load);
+		}
+	}
+
+	// JSON generation helpers, only used to compile the output templates
 
 	private static JsonObject createChildModel(String parent, String texture) {
 		JsonObject obj = new JsonObject();
@@ -213,27 +466,36 @@ public class RuntimeResourceGenerator {
 		return obj;
 	}
 
-	private static JsonObject createSimpleBlockstate(String name) {
+	private static JsonObject createSimpleBlockstate(String name, boolean deduped) {
 		JsonObject obj = new JsonObject();
 		JsonObject variants = new JsonObject();
 		JsonObject modelRef = new JsonObject();
 		modelRef.addProperty("model", MOD_ID + ":block/" + name);
-		variants.add("waterlogged=false", modelRef);
-		variants.add("waterlogged=true", modelRef);
+		if (deduped) {
+			// An empty key matches every state
+			variants.add("", modelRef);
+		} else {
+			variants.add("waterlogged=false", modelRef);
+			variants.add("waterlogged=true", modelRef);
+		}
 		obj.add("variants", variants);
 		return obj;
 	}
 
-	private static JsonObject createSlabBlockstate(String name) {
+	private static JsonObject createSlabBlockstate(String name, String doubleModel, boolean deduped) {
 		JsonObject obj = new JsonObject();
 		JsonObject variants = new JsonObject();
 
 		String[] types = {"bottom", "top", "double"};
 		for (String type : types) {
 			JsonObject modelRef = new JsonObject();
-			modelRef.addProperty("model", MOD_ID + ":block/" + name + "_" + type);
-			variants.add("type=" + type + ",waterlogged=false", modelRef);
-			variants.add("type=" + type + ",waterlogged=true", modelRef);
+			modelRef.addProperty("model", MOD_ID + ":block/" + (type.equals("double") ? doubleModel : name + "_" + type));
+			if (deduped) {
+				variants.add("type=" + type, modelRef);
+			} else {
+				variants.add("type=" + type + ",waterlogged=false", modelRef);
+				variants.add("type=" + type + ",waterlogged=true", modelRef);
+			}
 		}
 
 		obj.add("variants", variants);
@@ -255,116 +517,6 @@ public class RuntimeResourceGenerator {
 		return obj;
 	}
 
-	private static JsonObject createFencePostRecipe(String postName, String namespace, String baseName) {
-		JsonObject obj = new JsonObject();
-		obj.addProperty("type", "minecraft:crafting_shapeless");
-		JsonArray ingredients = new JsonArray();
-		ingredients.add(namespace + ":" + baseName + "_fence");
-		obj.add("ingredients", ingredients);
-		JsonObject result = new JsonObject();
-		result.addProperty("id", MOD_ID + ":" + postName);
-		result.addProperty("count", 2);
-		obj.add("result", result);
-		return obj;
-	}
-
-	private static JsonObject createWallPostRecipe(String postName, String namespace, String baseName) {
-		JsonObject obj = new JsonObject();
-		obj.addProperty("type", "minecraft:crafting_shapeless");
-		JsonArray ingredients = new JsonArray();
-		ingredients.add(namespace + ":" + baseName + "_wall");
-		obj.add("ingredients", ingredients);
-		JsonObject result = new JsonObject();
-		result.addProperty("id", MOD_ID + ":" + postName);
-		result.addProperty("count", 2);
-		obj.add("result", result);
-		return obj;
-	}
-
-	private static JsonObject createSlabRecipe(String slabName, String postName) {
-		JsonObject obj = new JsonObject();
-		obj.addProperty("type", "minecraft:crafting_shapeless");
-		JsonArray ingredients = new JsonArray();
-		ingredients.add(MOD_ID + ":" + postName);
-		obj.add("ingredients", ingredients);
-		JsonObject result = new JsonObject();
-		result.addProperty("id", MOD_ID + ":" + slabName);
-		result.addProperty("count", 2);
-		obj.add("result", result);
-		return obj;
-	}
-
-	private static JsonObject createLootTable(String name) {
-		JsonObject obj = new JsonObject();
-		obj.addProperty("type", "minecraft:block");
-		JsonArray pools = new JsonArray();
-		JsonObject pool = new JsonObject();
-		pool.addProperty("rolls", 1);
-		JsonArray entries = new JsonArray();
-		JsonObject entry = new JsonObject();
-		entry.addProperty("type", "minecraft:item");
-		entry.addProperty("name", MOD_ID + ":" + name);
-		entries.add(entry);
-		pool.add("entries", entries);
-		JsonArray conditions = new JsonArray();
-		JsonObject condition = new JsonObject();
-		condition.addProperty("condition", "minecraft:survives_explosion");
-		conditions.add(condition);
-		pool.add("conditions", conditions);
-		pools.add(pool);
-		obj.add("pools", pools);
-		return obj;
-	}
-
-	private static JsonObject createSlabLootTable(String name) {
-		JsonObject obj = new JsonObject();
-		obj.addProperty("type", "minecraft:block");
-		JsonArray pools = new JsonArray();
-		JsonObject pool = new JsonObject();
-		pool.addProperty("rolls", 1);
-
-		JsonArray entries = new JsonArray();
-		JsonObject entry = new JsonObject();
-		entry.addProperty("type", "minecraft:item");
-		entry.addProperty("name", MOD_ID + ":" + name);
-
-		JsonArray functions = new JsonArray();
-		JsonObject setCount = new JsonObject();
-		setCount.addProperty("function", "minecraft:set_count");
-		setCount.addProperty("count", 2);
-		JsonArray funcConditions = new JsonArray();
-		JsonObject blockState = new JsonObject();
-		blockState.addProperty("condition", "minecraft:block_state_property");
-		blockState.addProperty("block", MOD_ID + ":" + name);
-		JsonObject props = new JsonObject();
-		props.addProperty("type", "double");
-		blockState.add("properties", props);
-		funcConditions.add(blockState);
-		setCount.add("conditions", funcConditions);
-		functions.add(setCount);
-		entry.add("functions", functions);
-
-		entries.add(entry);
-		pool.add("entries", entries);
-
-		JsonArray conditions = new JsonArray();
-		JsonObject condition = new JsonObject();
-		condition.addProperty("condition", "minecraft:survives_explosion");
-		conditions.add(condition);
-		pool.add("conditions", conditions);
-
-		pools.add(pool);
-		obj.add("pools", pools);
-		return obj;
-	}
-
-	private static void writeJson(Path path, JsonObject json) throws IOException {
-		Files.createDirectories(path.getParent());
-		try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-			GSON.toJson(json, writer);
-		}
-	}
-
 	/**
 	 * Try to determine the texture path for a fence block.
 	 * This uses heuristics based on common naming conventions.
@@ -397,6 +549,48 @@ public class RuntimeResourceGenerator {
 
 	// Info classes
 
+	private record Family(boolean fence, String baseName, String namespace, String texturePath) {
+		String postName() {
+			return baseName + (fence ? "_fence_post" : "_wall_post");
+		}
+
+		String hash(Templates templates) {
+			String kind = fence ? "fence" : "wall";
+			return GenerationCache.hash(kind, namespace + ":" + baseName + "_" + kind, texturePath, GENERATOR_VERSION, templates.mode);
+		}
+
+		List<GeneratedFile> createFiles(Templates templates) {
+			return fence
+				? createFencePostFiles(templates, baseName, texturePath)
+				: createWallPostFiles(templates, baseName, texturePath);
+		}
+	}
+
+	/**
+	 * Compiled templates for every file kind, built once per output mode from the JSON helpers above.
+	 */
+	private static final class Templates {
+		final String mode;
+		final boolean deduped;
+		final JsonTemplate childModel;
+		final JsonTemplate simpleBlockstate;
+		final JsonTemplate slabBlockstate;
+		final JsonTemplate itemModel;
+		final JsonTemplate itemDefinition;
+
+		Templates(String mode, Gson gson, boolean deduped) {
+			this.mode = mode;
+			this.deduped = deduped;
+			this.childModel = JsonTemplate.compile(gson, createChildModel(slot(0), slot(1)));
+			this.simpleBlockstate = JsonTemplate.compile(gson, createSimpleBlockstate(slot(0), deduped));
+			this.slabBlockstate = JsonTemplate.compile(gson, createSlabBlockstate(slot(0), slot(1), deduped));
+			this.itemModel = JsonTemplate.compile(gson, createItemModel(slot(0)));
+			this.itemDefinition = JsonTemplate.compile(gson, createItemDefinition(slot(0)));
+		}
+	}
+
+	private record GeneratedFile(String path, byte[] data, long renderNanos) {}
+
 	public record FenceInfo(Identifier id, Block block) {
 		public String getBaseName() {
 			return id.getPath().replace("_fence", "");
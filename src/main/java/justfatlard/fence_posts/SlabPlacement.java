@@ -0,0 +1,63 @@
+package justfatlard.fence_posts;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.enums.SlabType;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.math.Direction;
+
+/**
+ * Placement rules shared by the post slabs, kept free of world access so they can be benchmarked directly.
+ */
+final class SlabPlacement {
+	private SlabPlacement() {}
+
+	/**
+	 * @param defaultState The slab's default state
+	 * @param existing The state currently at the placement position
+	 * @param inWater Whether the placement position holds water
+	 * @param side The side that was clicked
+	 * @param hitY Hit height within the block (0 to 1)
+	 */
+	static BlockState getPlacementState(BlockState defaultState, BlockState existing, boolean inWater, Direction side, double hitY) {
+		if (existing.isOf(defaultState.getBlock())) {
+			return existing.with(Properties.SLAB_TYPE, SlabType.DOUBLE).with(Properties.WATERLOGGED, false);
+		}
+
+		BlockState newState = defaultState.with(Properties.WATERLOGGED, inWater);
+
+		if (side == Direction.DOWN) {
+			return newState.with(Properties.SLAB_TYPE, SlabType.TOP);
+		} else if (side == Direction.UP) {
+			return newState.with(Properties.SLAB_TYPE, SlabType.BOTTOM);
+		} else {
+			return newState.with(Properties.SLAB_TYPE, hitY > 0.5D ? SlabType.TOP : SlabType.BOTTOM);
+		}
+	}
+
+	/**
+	 * @param state The slab state being replaced
+	 * @param holdingSameSlab Whether the player is placing the same slab
+	 * @param replaceExisting Whether the click targets the existing block rather than the face next to it
+	 * @param side The side that was clicked
+	 * @param hitY Hit height within the block (0 to 1)
+	 */
+	static boolean canReplace(BlockState state, boolean holdingSameSlab, boolean replaceExisting, Direction side, double hitY) {
+		SlabType slabType = state.get(Properties.SLAB_TYPE);
+
+		if (slabType == SlabType.DOUBLE || !holdingSameSlab) {
+			return false;
+		}
+
+		if (replaceExisting) {
+			boolean clickedTop = hitY > 0.5D;
+
+			if (slabType == SlabType.BOTTOM) {
+				return side == Direction.UP || (clickedTop && side.getAxis().isHorizontal());
+			} else {
+				return side == Direction.DOWN || (!clickedTop && side.getAxis().isHorizontal());
+			}
+		}
+
+		return true;
+	}
+}
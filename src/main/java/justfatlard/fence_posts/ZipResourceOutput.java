@@ -0,0 +1,112 @@
+package justfatlard.fence_posts;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes generated files into a single zip archive, streamed through one output channel.
+ * The archive is built in a temporary file next to the target and only moved into place by {@link #commit()},
+ * so a crash or failure mid-generation leaves the previous archive (or none) instead of a partial one.
+ * Closing without committing discards the temporary file. Entries carry a fixed timestamp, so writing the same
+ * files in the same order gives a byte-identical archive.
+ */
+public class ZipResourceOutput implements ResourceOutput, Closeable {
+	private final Path target;
+	private final Path temp;
+	private final ZipOutputStream zip;
+	private final boolean compress;
+	// Fixed modification time (the DOS epoch), so archives only differ when their contents do
+	private static final LocalDateTime ENTRY_TIME = LocalDateTime.of(1980, 1, 1, 0, 0);
+
+	private final CRC32 crc = new CRC32();
+	private boolean committed = false;
+
+	private ZipResourceOutput(Path target, Path temp, ZipOutputStream zip, boolean compress) {
+		this.target = target;
+		this.temp = temp;
+		this.zip = zip;
+		this.compress = compress;
+	}
+
+	/**
+	 * Start a new archive that will replace {@code target} on commit.
+	 *
+	 * @param compress Deflate entries, or store them uncompressed for faster writes and reads
+	 */
+	public static ZipResourceOutput create(Path target, boolean compress) throws IOException {
+		Path absolute = target.toAbsolutePath();
+		Files.createDirectories(absolute.getParent());
+
+		// Same directory as the target so the final move stays on one file system
+		Path temp = Files.createTempFile(absolute.getParent(), absolute.getFileName().toString(), ".tmp");
+		try {
+			ZipOutputStream zip = new ZipOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)));
+			zip.setLevel(compress ? 6 : 0);
+			return new ZipResourceOutput(absolute, temp, zip, compress);
+		} catch (IOException | RuntimeException e) {
+			Files.deleteIfExists(temp);
+			throw e;
+		}
+	}
+
+	@Override
+	public void write(String path, byte[] data) throws IOException {
+		if (committed) throw new IllegalStateException("Archive " + target + " is already committed");
+
+		ZipEntry entry = new ZipEntry(path);
+		entry.setTimeLocal(ENTRY_TIME);
+		if (compress) {
+			entry.setMethod(ZipEntry.DEFLATED);
+		} else {
+			// Stored entries need their size and checksum before the data
+			crc.reset();
+			crc.update(data);
+			entry.setMethod(ZipEntry.STORED);
+			entry.setSize(data.length);
+			entry.setCompressedSize(data.length);
+			entry.setCrc(crc.getValue());
+		}
+
+		zip.putNextEntry(entry);
+		zip.write(data);
+		zip.closeEntry();
+	}
+
+	/**
+	 * Finish the archive and atomically replace the target with it.
+	 */
+	public void commit() throws IOException {
+		if (committed) return;
+
+		zip.close();
+		try {
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+		committed = true;
+	}
+
+	/**
+	 * Discard the archive unless it was committed.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (committed) return;
+
+		try {
+			zip.close();
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package justfatlard.fence_posts.mixin;
+
+import justfatlard.fence_posts.GeneratedResourcePack;
+import net.minecraft.resource.ResourcePackManager;
+import net.minecraft.resource.ResourcePackProvider;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Mutable;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Offers the in-memory generated packs to every resource pack manager (client assets and server data).
+ */
+@Mixin(ResourcePackManager.class)
+public abstract class ResourcePackManagerMixin {
+	@Shadow @Final @Mutable
+	private Set<ResourcePackProvider> providers;
+
+	@Inject(method = "<init>", at = @At("RETURN"))
+	private void fencePosts$addGeneratedPacks(CallbackInfo ci) {
+		Set<ResourcePackProvider> providers = new LinkedHashSet<>(this.providers);
+		providers.add(GeneratedResourcePack::provide);
+		this.providers = providers;
+	}
+}
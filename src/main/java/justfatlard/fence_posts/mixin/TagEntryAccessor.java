@@ -0,0 +1,18 @@
+package justfatlard.fence_posts.mixin;
+
+import net.minecraft.registry.tag.TagEntry;
+import net.minecraft.util.Identifier;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+/**
+ * Reads what a tag entry points at, so post entries can follow their source block's.
+ */
+@Mixin(TagEntry.class)
+public interface TagEntryAccessor {
+	@Accessor("id")
+	Identifier fencePosts$getId();
+
+	@Accessor("tag")
+	boolean fencePosts$isTag();
+}
@@ -0,0 +1,32 @@
+package justfatlard.fence_posts.mixin;
+
+import justfatlard.fence_posts.PostTags;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.registry.tag.TagGroupLoader;
+import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adds posts and post slabs to the block tags their source fences and walls are in, as the tag files are loaded.
+ */
+@Mixin(TagGroupLoader.class)
+public abstract class TagGroupLoaderMixin {
+	@Shadow @Final
+	private String dataType;
+
+	@Inject(method = "loadTags", at = @At("RETURN"))
+	private void fencePosts$addPostEntries(ResourceManager resourceManager, CallbackInfoReturnable<Map<Identifier, List<TagGroupLoader.TrackedEntry>>> cir) {
+		if (dataType.equals(RegistryKeys.getTagPath(RegistryKeys.BLOCK))) {
+			PostTags.addPostEntries(cir.getReturnValue());
+		}
+	}
+}